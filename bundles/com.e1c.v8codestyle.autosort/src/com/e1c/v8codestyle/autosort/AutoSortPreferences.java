@@ -24,16 +24,12 @@ import static com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage.Literals.WEB_SERV
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ProjectScope;
-import org.eclipse.core.runtime.Platform;
-import org.eclipse.core.runtime.preferences.ConfigurationScope;
-import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
-import org.eclipse.core.runtime.preferences.IScopeContext;
-import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.emf.ecore.EReference;
 import org.osgi.service.prefs.BackingStoreException;
 
 import com._1c.g5.v8.dt.md.sort.MdSortPreferences;
+import com.e1c.v8codestyle.PreferenceSnapshot;
 import com.e1c.v8codestyle.internal.autosort.AutoSortPlugin;
 
 /**
@@ -105,8 +101,7 @@ public final class AutoSortPreferences
     @Deprecated(since = "0.5.0")
     public static boolean isSortAscending(IProject project)
     {
-        IEclipsePreferences rootNode = getPreferences(project);
-        return rootNode.getBoolean(KEY_ASCENDING, DEFAULT_SORT_ASCENDING);
+        return getSnapshot(project).getProjectBoolean(KEY_ASCENDING, DEFAULT_SORT_ASCENDING);
     }
 
     /**
@@ -119,8 +114,7 @@ public final class AutoSortPreferences
     @Deprecated(since = "0.5.0")
     public static boolean isNaturalSortOrder(IProject project)
     {
-        IEclipsePreferences rootNode = getPreferences(project);
-        return rootNode.getBoolean(KEY_SORT_ORDER, DEFAULT_SORT_ORDER);
+        return getSnapshot(project).getProjectBoolean(KEY_SORT_ORDER, DEFAULT_SORT_ORDER);
     }
     /**
      * Checks if need to sort all top object.
@@ -130,12 +124,7 @@ public final class AutoSortPreferences
      */
     public static boolean isSortAllTop(IProject project)
     {
-        ProjectScope projectScope = new ProjectScope(project);
-        IScopeContext[] contexts = new IScopeContext[] { projectScope, InstanceScope.INSTANCE,
-            ConfigurationScope.INSTANCE, DefaultScope.INSTANCE };
-
-        return Platform.getPreferencesService()
-            .getBoolean(AutoSortPlugin.PLUGIN_ID, KEY_ALL_TOP, DEFAULT_SORT, contexts);
+        return getSnapshot(project).getBoolean(KEY_ALL_TOP, DEFAULT_SORT);
     }
 
     /**
@@ -146,8 +135,7 @@ public final class AutoSortPreferences
      */
     public static boolean isSortSubOrdinateObjects(IProject project)
     {
-        IEclipsePreferences rootNode = getPreferences(project);
-        return rootNode.getBoolean(KEY_SUBORDINATE_OBJECTS, DEFAULT_SORT);
+        return getSnapshot(project).getProjectBoolean(KEY_SUBORDINATE_OBJECTS, DEFAULT_SORT);
     }
 
     /**
@@ -235,14 +223,17 @@ public final class AutoSortPreferences
 
     private static boolean isSortTopList(IProject project, EReference listRef)
     {
-        IEclipsePreferences rootNode = getPreferences(project);
-        return rootNode.node(KEY_TOP_NODE).getBoolean(listRef.getName(), DEFAULT_SORT);
+        return getSnapshot(project).getProjectBoolean(KEY_TOP_NODE, listRef.getName(), DEFAULT_SORT);
     }
 
     private static boolean isSortSubordinateList(IProject project, EReference listRef)
     {
-        IEclipsePreferences rootNode = getPreferences(project);
-        return rootNode.node(KEY_SUBORDINATE_NODE).getBoolean(listRef.getName(), DEFAULT_SORT);
+        return getSnapshot(project).getProjectBoolean(KEY_SUBORDINATE_NODE, listRef.getName(), DEFAULT_SORT);
+    }
+
+    private static PreferenceSnapshot getSnapshot(IProject project)
+    {
+        return PreferenceSnapshot.get(project, AutoSortPlugin.PLUGIN_ID);
     }
 
     private AutoSortPreferences()
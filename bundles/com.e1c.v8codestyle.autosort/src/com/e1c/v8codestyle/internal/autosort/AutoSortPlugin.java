@@ -150,6 +150,12 @@ public class AutoSortPlugin
         registrator.deactivateManagedServices(this);
         registrator.unregisterServices();
 
+        Injector localInstance = injector;
+        if (localInstance != null && localInstance.getInstance(ISortService.class) instanceof SortService service)
+        {
+            service.shutdown();
+        }
+
         injector = null;
         plugin = null;
         super.stop(bundleContext);
@@ -13,10 +13,13 @@
 package com.e1c.v8codestyle.internal.autosort;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -87,7 +90,7 @@ public class SortBmTask
                 }
 
                 List<?> elements = (List<?>)value;
-                if (elements.size() < 2)
+                if (elements.size() < 2 || isSorted(elements, item.getSorter()))
                 {
                     continue;
                 }
@@ -104,6 +107,159 @@ public class SortBmTask
         return null;
     }
 
+    /**
+     * Checks if the list of objects is already sorted by the sorter.
+     *
+     * @param elements the list of objects, cannot be {@code null}.
+     * @param sorter the sorter, cannot be {@code null}.
+     * @return true, if the list is already sorted
+     */
+    static boolean isSorted(List<?> elements, Comparator<EObject> sorter)
+    {
+        for (int i = 1; i < elements.size(); i++)
+        {
+            if (sorter.compare((EObject)elements.get(i - 1), (EObject)elements.get(i)) > 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the list of objects by the sorter in place. Elements of the longest increasing subsequence of current
+     * positions are kept in place and only other elements are moved, the current index of the moved element
+     * is computed in O(log n) without lookups in the list.
+     *
+     * @param list the list of objects to sort, cannot be {@code null}.
+     * @param sorter the sorter, cannot be {@code null}.
+     */
+    public static void sort(EList<EObject> list, Comparator<EObject> sorter)
+    {
+        List<EObject> sorted = new ArrayList<>(list);
+        Collections.sort(sorted, sorter);
+
+        Map<EObject, Integer> sortedPositions = new IdentityHashMap<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++)
+        {
+            sortedPositions.put(sorted.get(i), i);
+        }
+
+        int[] positions = new int[list.size()];
+        Map<EObject, Integer> originalIndexes = new IdentityHashMap<>(positions.length);
+        for (int i = 0; i < positions.length; i++)
+        {
+            positions[i] = sortedPositions.get(list.get(i));
+            originalIndexes.put(list.get(i), i);
+        }
+
+        // elements of the longest increasing subsequence are in place, only other elements are moved
+        boolean[] inPlace = getLongestIncreasingSubsequence(positions, sorted.size());
+
+        // the order of the list while moving is the order of keys: an element in place keeps the key of its
+        // original index, a moved element is placed after the previous sorted element and gets the key
+        // of the previous element anchor with its sorted position, so current indexes are counts of keys
+        int size = sorted.size();
+        long[] originalKeys = new long[size];
+        long[] keys = new long[size];
+        long[] allKeys = new long[size * 2];
+        int keyCount = 0;
+        int anchor = -1;
+        for (int i = 0; i < size; i++)
+        {
+            int originalIndex = originalIndexes.get(sorted.get(i));
+            originalKeys[i] = toKey(originalIndex, -1, size);
+            allKeys[keyCount++] = originalKeys[i];
+            if (inPlace[i])
+            {
+                anchor = originalIndex;
+                keys[i] = originalKeys[i];
+            }
+            else
+            {
+                keys[i] = toKey(anchor, i, size);
+                allKeys[keyCount++] = keys[i];
+            }
+        }
+        long[] orderedKeys = Arrays.copyOf(allKeys, keyCount);
+        Arrays.sort(orderedKeys);
+
+        KeyCounter present = new KeyCounter(orderedKeys.length);
+        for (long key : originalKeys)
+        {
+            present.add(Arrays.binarySearch(orderedKeys, key), 1);
+        }
+
+        for (int i = 0; i < size; i++)
+        {
+            if (inPlace[i])
+            {
+                continue;
+            }
+
+            int oldRank = Arrays.binarySearch(orderedKeys, originalKeys[i]);
+            int oldIndex = present.countBefore(oldRank);
+            int newIndex = 0;
+            if (i > 0)
+            {
+                int previousIndex = present.countBefore(Arrays.binarySearch(orderedKeys, keys[i - 1]));
+                newIndex = oldIndex < previousIndex ? previousIndex : previousIndex + 1;
+            }
+            present.add(oldRank, -1);
+            present.add(Arrays.binarySearch(orderedKeys, keys[i]), 1);
+            list.move(newIndex, oldIndex);
+        }
+    }
+
+    private static long toKey(int anchor, int position, int size)
+    {
+        return (anchor + 1L) * (size + 1L) + position + 1L;
+    }
+
+    /**
+     * Gets the longest increasing subsequence of the positions in O(n log n).
+     *
+     * @param positions the current sequence of target positions, cannot be {@code null}.
+     * @param size the number of target positions
+     * @return the flags by target position that the element is in the subsequence, cannot return {@code null}.
+     */
+    private static boolean[] getLongestIncreasingSubsequence(int[] positions, int size)
+    {
+        int[] tails = new int[positions.length];
+        int[] previous = new int[positions.length];
+        int length = 0;
+        for (int i = 0; i < positions.length; i++)
+        {
+            int low = 0;
+            int high = length;
+            while (low < high)
+            {
+                int middle = (low + high) >>> 1;
+                if (positions[tails[middle]] < positions[i])
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length)
+            {
+                length++;
+            }
+        }
+
+        boolean[] result = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = previous[i])
+        {
+            result[positions[i]] = true;
+        }
+        return result;
+    }
+
     private static final class SortCommand
         extends ChangeCommand
     {
@@ -125,18 +281,39 @@ public class SortBmTask
         @Override
         protected void doExecute()
         {
-            ArrayList<EObject> sorted = new ArrayList<>(list);
-            Collections.sort(sorted, this.sorter);
-            for (int i = 0; i < sorted.size(); i++)
+            sort(list, sorter);
+        }
+    }
+
+    /**
+     * The binary indexed tree of counts of present keys by the rank of key.
+     */
+    private static final class KeyCounter
+    {
+
+        private final int[] tree;
+
+        private KeyCounter(int size)
+        {
+            this.tree = new int[size + 1];
+        }
+
+        private void add(int rank, int delta)
+        {
+            for (int i = rank + 1; i < tree.length; i += i & -i)
             {
-                EObject element = sorted.get(i);
-                int oldIndex = list.indexOf(element);
-                int newIndex = sorted.indexOf(element);
-                if (oldIndex != -1 && newIndex != -1 && oldIndex != newIndex)
-                {
-                    list.move(newIndex, element);
-                }
+                tree[i] += delta;
+            }
+        }
+
+        private int countBefore(int rank)
+        {
+            int count = 0;
+            for (int i = rank; i > 0; i -= i & -i)
+            {
+                count += tree[i];
             }
+            return count;
         }
     }
 
@@ -15,10 +15,12 @@ package com.e1c.v8codestyle.internal.autosort;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -33,9 +35,9 @@ import com.e1c.v8codestyle.autosort.SortItem;
 
 /**
  * The Eclipse platform job to sort the project.
- * This job allows to append the {@link Queue} of small {@link SortItem sort tasks} while it is running.
- * Callers should call {@link #schedule()} each time after append the job to make sure that this job will
- * complete the sort tasks.
+ * This job allows to {@link #enqueue(Collection) append} small {@link SortItem sort tasks} while it is running.
+ * The queue coalesces items with the same FQN and list reference, so a burst of changes of one list turns into
+ * one sort of the list. Each append reschedules the job with a debounce delay that grows while the burst continues.
  *
  * @author Dmitriy Marmyshev
  *
@@ -46,7 +48,17 @@ public class SortJob
     extends Job
 {
 
-    private final BlockingQueue<SortItem> queue = new LinkedBlockingQueue<>();
+    private static final long JOB_DELAY = 500;
+
+    private static final long MAX_JOB_DELAY = 2000;
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final Set<SortItem> queue = new LinkedHashSet<>();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
 
     private final IDtProject dtProject;
 
@@ -54,6 +66,10 @@ public class SortJob
 
     private final ISortService sortService;
 
+    private long lastEnqueueTime;
+
+    private long delay = JOB_DELAY;
+
     /**
      * Instantiates a new sort job.
      *
@@ -77,13 +93,16 @@ public class SortJob
             return Status.CANCEL_STATUS;
         }
 
-        while (!queue.isEmpty() && !monitor.isCanceled())
+        while (!isQueueEmpty() && !monitor.isCanceled())
         {
             execute(monitor);
         }
         if (monitor.isCanceled())
         {
-            queue.clear();
+            synchronized (queue)
+            {
+                queue.clear();
+            }
         }
 
         if (monitor.isCanceled())
@@ -94,13 +113,76 @@ public class SortJob
     }
 
     /**
-     * Gets the queue of sort items.
+     * Appends the sort items to the queue and schedules the job. The items that are already in the queue
+     * are coalesced.
      *
-     * @return the queue, cannot be {@link null}.
+     * @param items the sort items to append, cannot be {@link null}.
      */
-    public Queue<SortItem> getQueue()
+    public void enqueue(Collection<SortItem> items)
     {
-        return queue;
+        long scheduleDelay;
+        synchronized (queue)
+        {
+            for (SortItem item : items)
+            {
+                enqueuedCount.incrementAndGet();
+                if (queue.remove(item))
+                {
+                    // keep the latest item as it may have the actual sorter
+                    coalescedCount.incrementAndGet();
+                }
+                queue.add(item);
+            }
+
+            // extend the delay while changes come in a burst
+            long now = System.currentTimeMillis();
+            delay = now - lastEnqueueTime < delay ? Math.min(delay * 2, MAX_JOB_DELAY) : JOB_DELAY;
+            lastEnqueueTime = now;
+            scheduleDelay = delay;
+        }
+        schedule(scheduleDelay);
+    }
+
+    /**
+     * Gets the total number of items that were appended to the queue.
+     *
+     * @return the number of appended items
+     */
+    public long getEnqueuedCount()
+    {
+        return enqueuedCount.get();
+    }
+
+    /**
+     * Gets the number of appended items that were coalesced with items already in the queue.
+     *
+     * @return the number of coalesced items
+     */
+    public long getCoalescedCount()
+    {
+        return coalescedCount.get();
+    }
+
+    private boolean isQueueEmpty()
+    {
+        synchronized (queue)
+        {
+            return queue.isEmpty();
+        }
+    }
+
+    private List<SortItem> pollBatch()
+    {
+        List<SortItem> items = new ArrayList<>();
+        synchronized (queue)
+        {
+            for (Iterator<SortItem> iterator = queue.iterator(); iterator.hasNext() && items.size() < MAX_BATCH_SIZE;)
+            {
+                items.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        return items;
     }
 
     private void execute(IProgressMonitor monitor)
@@ -109,13 +191,7 @@ public class SortJob
             Arrays.asList(dtProject), ProjectPipelineJob.BUILD);
         try
         {
-            List<SortItem> items = new ArrayList<>();
-            SortItem item = null;
-            while ((item = queue.poll()) != null && !monitor.isCanceled())
-            {
-                items.add(item);
-            }
-
+            List<SortItem> items = pollBatch();
             if (!monitor.isCanceled() && !items.isEmpty())
             {
                 sortService.sortObject(dtProject, items, monitor);
@@ -26,9 +26,15 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -81,7 +87,9 @@ public class SortService
     implements ISortService
 {
 
-    private static final long JOB_DELAY = 500;
+    private static final int MAX_READ_THREADS = 4;
+
+    private static final long READ_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     protected static final String CONFIGURATION_FQN = CONFIGURATION.getName();
 
@@ -100,6 +108,9 @@ public class SortService
     private final Map<IProject, IBmAsyncEventListener> projectListeners = new ConcurrentHashMap<>();
     private final Map<IProject, SortJob> jobs = new ConcurrentHashMap<>();
 
+    /** The shared pool of read-only transactions, idle threads are released after keep-alive time. */
+    private final ThreadPoolExecutor readExecutor = createReadExecutor();
+
     /**
      * Instantiates a new sort service.
      *
@@ -176,6 +187,15 @@ public class SortService
         }
     }
 
+    /**
+     * Shuts down the shared pool of read-only transactions, the service reads objects to sort in the calling
+     * thread after that.
+     */
+    void shutdown()
+    {
+        readExecutor.shutdownNow();
+    }
+
     @Override
     public IStatus sortAllMetadata(IDtProject dtProject, IProgressMonitor monitor)
     {
@@ -186,7 +206,15 @@ public class SortService
         }
 
         IProject project = dtProject.getWorkspaceProject();
-        Collection<SortItem> items = readAllObjectsToSort(model, project, monitor);
+        Collection<SortItem> items;
+        try
+        {
+            items = readAllObjectsToSort(model, project, monitor);
+        }
+        catch (CoreException e)
+        {
+            return e.getStatus();
+        }
 
         if (monitor.isCanceled())
         {
@@ -249,7 +277,15 @@ public class SortService
                 return Status.CANCEL_STATUS;
             }
 
-            Collection<SortItem> items = readAllObjectsToSort(model, project, monitor);
+            Collection<SortItem> items;
+            try
+            {
+                items = readAllObjectsToSort(model, project, monitor);
+            }
+            catch (CoreException e)
+            {
+                return e.getStatus();
+            }
 
             if (monitor.isCanceled())
             {
@@ -272,13 +308,84 @@ public class SortService
         }
 
         SortJob job = jobs.computeIfAbsent(project, p -> new SortJob(dtProject, this, workspaceOrchestrator));
-        job.getQueue().addAll(items);
-        job.schedule(JOB_DELAY);
+        job.enqueue(items);
     }
 
     private Collection<SortItem> readAllObjectsToSort(IBmModel model, IProject project, IProgressMonitor monitor)
+        throws CoreException
+    {
+        ReadSortObjects readTask = new ReadSortObjects(project, monitor);
+        Collection<SortItem> result = new ArrayList<>(model.executeReadonlyTask(readTask, true));
+
+        List<Entry<EClass, List<EReference>>> subordinateLists =
+            new ArrayList<>(readTask.getSubordinateListRefs().entrySet());
+        if (subordinateLists.isEmpty() || monitor.isCanceled())
+        {
+            return result;
+        }
+
+        // partition top object classes across a bounded pool of read-only transactions
+        int threads = Math.min(subordinateLists.size(),
+            Math.min(Runtime.getRuntime().availableProcessors(), MAX_READ_THREADS));
+        List<List<Entry<EClass, List<EReference>>>> partitions = new ArrayList<>();
+        for (int i = 0; i < threads; i++)
+        {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < subordinateLists.size(); i++)
+        {
+            partitions.get(i % threads).add(subordinateLists.get(i));
+        }
+
+        if (threads == 1 || readExecutor.isShutdown())
+        {
+            for (List<Entry<EClass, List<EReference>>> partition : partitions)
+            {
+                result.addAll(model.executeReadonlyTask(
+                    new ReadSubordinateSortObjects(partition, readTask.sorter, monitor), true));
+            }
+            return result;
+        }
+
+        List<Future<Collection<SortItem>>> futures = new ArrayList<>();
+        try
+        {
+            for (List<Entry<EClass, List<EReference>>> partition : partitions)
+            {
+                futures.add(readExecutor.submit(() -> model.executeReadonlyTask(
+                    new ReadSubordinateSortObjects(partition, readTask.sorter, monitor), true)));
+            }
+            for (Future<Collection<SortItem>> future : futures)
+            {
+                result.addAll(future.get());
+            }
+        }
+        catch (ExecutionException e)
+        {
+            // sorting of incomplete list of objects is aborted
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new CoreException(AutoSortPlugin.createErrorStatus(cause.getMessage(), cause));
+        }
+        catch (InterruptedException e)
+        {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            monitor.setCanceled(true);
+        }
+        return result;
+    }
+
+    private static ThreadPoolExecutor createReadExecutor()
     {
-        return model.executeReadonlyTask(new ReadSortObjects(project, monitor), true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_READ_THREADS, MAX_READ_THREADS,
+            READ_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Read collections to sort"); //$NON-NLS-1$
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private final class MdObjectChangeListener
@@ -432,6 +539,8 @@ public class SortService
 
         private final Comparator<EObject> sorter;
 
+        private Map<EClass, List<EReference>> subordinateListRefs = Map.of();
+
         protected ReadSortObjects(IProject project, IProgressMonitor monitor)
         {
             super("Read collections to sort"); //$NON-NLS-1$
@@ -456,31 +565,20 @@ public class SortService
                 }
 
                 Iterator<EClass> eClassIterator = transaction.getTopObjectEClasses();
-                Map<EClass, List<EReference>> sortListRefs = getSubordinateListsToSort(eClassIterator, project);
-
-                appendSubordinateObjects(result, sortListRefs, transaction, m);
+                subordinateListRefs = getSubordinateListsToSort(eClassIterator, project);
             }
             return result;
         }
 
-        private void appendSubordinateObjects(Collection<SortItem> result, Map<EClass, List<EReference>> sortListRefs,
-            IBmTransaction transaction, IProgressMonitor m)
+        /**
+         * Gets the list references of the top object classes to read subordinate objects to sort.
+         * Available after the task is executed.
+         *
+         * @return the list references by top object class, cannot return {@code null}.
+         */
+        private Map<EClass, List<EReference>> getSubordinateListRefs()
         {
-            for (Entry<EClass, List<EReference>> entry : sortListRefs.entrySet())
-            {
-                for (Iterator<IBmObject> iterator = transaction.getTopObjectIterator(entry.getKey()); iterator
-                    .hasNext();)
-                {
-                    if (monitor.isCanceled() || m.isCanceled())
-                    {
-                        return;
-                    }
-
-                    IBmObject object = iterator.next();
-                    String fqn = object.bmGetFqn();
-                    entry.getValue().forEach(ref -> result.add(new SortItem(fqn, ref, sorter)));
-                }
-            }
+            return subordinateListRefs;
         }
 
         private void appendSubordinateSubsystems(Collection<SortItem> result, IBmTransaction transaction)
@@ -491,8 +589,8 @@ public class SortService
                 IBmObject subsystem = iterator.next();
 
                 EList<?> subordinateSubsystems =
-                    (EList<?>)subsystem.eGet(MdClassPackage.Literals.SUBSYSTEM__SUBSYSTEMS, false);
-                if (subordinateSubsystems.size() > 1)
+                    (EList<?>)subsystem.eGet(MdClassPackage.Literals.SUBSYSTEM__SUBSYSTEMS, true);
+                if (subordinateSubsystems.size() > 1 && !SortBmTask.isSorted(subordinateSubsystems, sorter))
                 {
                     String fqn = subsystem.bmGetFqn();
                     result.add(new SortItem(fqn, MdClassPackage.Literals.SUBSYSTEM__SUBSYSTEMS, sorter));
@@ -545,8 +643,8 @@ public class SortService
                     {
                         continue;
                     }
-                    EList<?> collection = (EList<?>)top.eGet(feature, false);
-                    if (collection.size() > 1)
+                    EList<?> collection = (EList<?>)top.eGet(feature, true);
+                    if (collection.size() > 1 && !SortBmTask.isSorted(collection, sorter))
                     {
                         result.add(new SortItem(CONFIGURATION_FQN, feature, sorter));
                     }
@@ -568,4 +666,54 @@ public class SortService
         }
     }
 
+    private static final class ReadSubordinateSortObjects
+        extends AbstractBmTask<Collection<SortItem>>
+    {
+
+        private final List<Entry<EClass, List<EReference>>> sortListRefs;
+
+        private final Comparator<EObject> sorter;
+
+        private final IProgressMonitor monitor;
+
+        private ReadSubordinateSortObjects(List<Entry<EClass, List<EReference>>> sortListRefs,
+            Comparator<EObject> sorter, IProgressMonitor monitor)
+        {
+            super("Read subordinate collections to sort"); //$NON-NLS-1$
+            this.sortListRefs = sortListRefs;
+            this.sorter = sorter;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Collection<SortItem> execute(IBmTransaction transaction, IProgressMonitor m)
+        {
+            Collection<SortItem> result = new ArrayList<>();
+            for (Entry<EClass, List<EReference>> entry : sortListRefs)
+            {
+                for (Iterator<IBmObject> iterator = transaction.getTopObjectIterator(entry.getKey()); iterator
+                    .hasNext();)
+                {
+                    if (monitor.isCanceled() || m.isCanceled())
+                    {
+                        return result;
+                    }
+
+                    IBmObject object = iterator.next();
+                    String fqn = object.bmGetFqn();
+                    for (EReference ref : entry.getValue())
+                    {
+                        // only lists that need moving are sent to the sort task
+                        List<?> elements = (List<?>)object.eGet(ref, true);
+                        if (elements.size() > 1 && !SortBmTask.isSorted(elements, sorter))
+                        {
+                            result.add(new SortItem(fqn, ref, sorter));
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
 }
@@ -12,9 +12,6 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.internal.bsl.ui.handlers;
 
-import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
-
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,12 +30,8 @@ import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.InternalEObject;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.ui.handlers.HandlerUtil;
 
@@ -52,7 +45,7 @@ import com.google.inject.Inject;
 
 /**
  * The Handler collects selection of objects and start {@link Job} by each project
- * to add {@code @strict-types} annotation.
+ * to add {@code @strict-types} annotation to all collected module files in one workspace operation.
  * Handler support {@link IProject}, {@link MdObject} and any files and folders.
  *
  * @author Dmitriy Marmyshev
@@ -263,7 +256,7 @@ public class AddStrictTypeAnnotationHandler
                 {
 
                     IFile file = (IFile)r;
-                    if (needUpdate(file))
+                    if (isBslFile(file))
                     {
                         files.add(file);
                     }
@@ -280,66 +273,23 @@ public class AddStrictTypeAnnotationHandler
 
     private void updateFiles(Collection<IFile> files, IProgressMonitor monitor)
     {
-        monitor.beginTask(Messages.AddStrictTypeAnnotationHandler_Update_module_files, files.size());
-
-        for (IFile file : files)
-        {
-            if (monitor.isCanceled())
-            {
-                return;
-            }
-
-            addAnnotationIfAbsent(file, monitor);
-
-            monitor.worked(1);
-        }
-        monitor.done();
-    }
-
-    private boolean needUpdate(IFile file)
-    {
-        if (StrictTypeUtil.BSL_FILE_EXTENSION.equals(file.getFileExtension()) && file.isAccessible())
-        {
-            try
-            {
-                return !StrictTypeUtil.hasStrictTypeAnnotation(file);
-            }
-            catch (CoreException | IOException e)
-            {
-                UiPlugin.logError(e);
-            }
-        }
-        return false;
-    }
-
-    private void addAnnotationIfAbsent(IFile file, IProgressMonitor monitor)
-    {
-        if (monitor.isCanceled())
-        {
-            return;
-        }
+        SubMonitor subMonitor =
+            SubMonitor.convert(monitor, Messages.AddStrictTypeAnnotationHandler_Update_module_files, 1);
         try
         {
-            if (!StrictTypeUtil.hasStrictTypeAnnotation(file)
-                && modelEditingSupport.canEdit(createModuleProxy(file), EditingMode.DIRECT) && !monitor.isCanceled())
-            {
-                StrictTypeUtil.setStrictTypeAnnotation(file, monitor);
-            }
+            StrictTypeUtil.setStrictTypeAnnotation(files,
+                file -> modelEditingSupport.canEdit(StrictTypeUtil.createModuleProxy(file), EditingMode.DIRECT),
+                subMonitor.split(1));
         }
-        catch (CoreException | IOException e)
+        catch (CoreException e)
         {
-            IStatus status = UiPlugin.createErrorStatus("Can't update bsl file with name: " + file.getName(), e); //$NON-NLS-1$
-            UiPlugin.log(status);
+            UiPlugin.logError(e);
         }
-
     }
 
-    private EObject createModuleProxy(IFile bslFile)
+    private boolean isBslFile(IFile file)
     {
-        EObject module = EcoreUtil.create(MODULE);
-        URI uri = URI.createPlatformResourceURI(bslFile.getFullPath().toString(), true).appendFragment("/0"); //$NON-NLS-1$
-        ((InternalEObject)module).eSetProxyURI(uri);
-        return module;
+        return StrictTypeUtil.BSL_FILE_EXTENSION.equals(file.getFileExtension()) && file.isAccessible();
     }
 
     private Collection<IFile> getFiles(Collection<MdObject> mdObjects, IProgressMonitor monitor)
@@ -12,13 +12,25 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.internal.bsl.ui.services;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
@@ -50,6 +62,9 @@ import com.google.inject.Inject;
 
 /**
  * Module regions related implementation of {@link IBslModuleTextInsertInfoService}
+ * <br>Offsets of module regions are computed once per modification stamp of the document, so many handlers
+ * can be inserted without scanning the module for each handler. Handler generation that creates many handlers
+ * at once should use {@link #insertEventHandlers(IXtextDocument, int, Map)} to apply them as a single text edit.
  *
  * @author Kuznetsov Nikita
  */
@@ -60,33 +75,108 @@ public class BslModuleRegionsInfoService
     @Inject
     private IModuleStructureProvider moduleStructureProvider;
 
+    private final Map<IDocument, ModuleRegions> moduleRegions = Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public IBslModuleTextInsertInfo getEventHandlerTextInsertInfo(IXtextDocument document, int defaultPosition,
         IBslModuleEventData data)
     {
-        if (!(data instanceof BslModuleEventData))
+        // the single handler is a batch of one handler, so both paths compute insert points the same way
+        return getEventHandlerTextInsertInfos(document, defaultPosition, Collections.singletonList(data)).get(0);
+    }
+
+    /**
+     * Gets the text insert information for many event handlers at once. The module is scanned for regions once
+     * for all event handlers.
+     *
+     * @param document the module document, cannot be {@code null}.
+     * @param defaultPosition the default insert position
+     * @param data the list of event data of handlers, cannot be {@code null}.
+     * @return the list of text insert information in order of event data, cannot return {@code null}.
+     */
+    public List<IBslModuleTextInsertInfo> getEventHandlerTextInsertInfos(IXtextDocument document,
+        int defaultPosition, List<? extends IBslModuleEventData> data)
+    {
+        ModuleRegions regions = null;
+        List<IBslModuleTextInsertInfo> result = new ArrayList<>(data.size());
+        for (IBslModuleEventData eventData : data)
         {
-            return IBslModuleTextInsertInfo.getDefaultModuleTextInsertInfo(document, defaultPosition);
+            if (eventData instanceof BslModuleEventData bslModuleEventData)
+            {
+                if (regions == null)
+                {
+                    regions = getModuleRegions(document);
+                }
+                result.add(getEventHandlerTextInsertInfo(document, regions, defaultPosition, bslModuleEventData));
+            }
+            else
+            {
+                result.add(IBslModuleTextInsertInfo.getDefaultModuleTextInsertInfo(document, defaultPosition));
+            }
         }
-        BslModuleEventData bslModuleEventData = (BslModuleEventData)data;
-        URI resourceURI = document.getResourceURI();
-        IResourceServiceProvider rsp =
-            IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(resourceURI);
-        IV8ProjectManager projectManager = rsp.get(IV8ProjectManager.class);
-        IV8Project project = projectManager.getProject(resourceURI);
-        ModuleInfoUnitOfWork moduleInfoUnitOfWork = new ModuleInfoUnitOfWork(rsp.get(BslOwnerComputerService.class));
-        ModuleInfo moduleInfo = document instanceof BslXtextDocument bslXTextDocument
-            ? bslXTextDocument.readOnlyDataModelWithoutSync(moduleInfoUnitOfWork)
-            : document.readOnly(moduleInfoUnitOfWork);
-        EObject eventOwner = data.getEventOwner();
-        BslModuleEventData regionData = (BslModuleEventData)data;
-        EventItemType itemType = regionData.getEventItemType();
+        return result;
+    }
+
+    /**
+     * Inserts many event handlers to the module as a single text edit. Handlers placed to the same new region
+     * are wrapped into one region in order of handlers.
+     *
+     * @param document the module document, cannot be {@code null}.
+     * @param defaultPosition the default insert position
+     * @param handlers the ordered map of event data to the text of the handler, cannot be {@code null}.
+     * @throws BadLocationException if computed insert positions are out of the document
+     */
+    public void insertEventHandlers(IXtextDocument document, int defaultPosition,
+        Map<? extends IBslModuleEventData, String> handlers) throws BadLocationException
+    {
+        if (handlers.isEmpty())
+        {
+            return;
+        }
+
+        List<IBslModuleEventData> data = new ArrayList<>(handlers.keySet());
+        List<IBslModuleTextInsertInfo> infos = getEventHandlerTextInsertInfos(document, defaultPosition, data);
+
+        Map<InsertKey, HandlerGroup> groups = new LinkedHashMap<>();
+        for (int i = 0; i < data.size(); i++)
+        {
+            IBslModuleTextInsertInfo info = infos.get(i);
+            String regionName = info instanceof BslModuleRegionsInfo regionsInfo ? regionsInfo.getRegionName() : null;
+            InsertKey key = new InsertKey(info.getPosition(), info.getClearLength(), regionName);
+            groups.computeIfAbsent(key, k -> new HandlerGroup(info)).content.append(handlers.get(data.get(i)));
+        }
+
+        MultiTextEdit edit = new MultiTextEdit();
+        for (HandlerGroup group : groups.values())
+        {
+            String text = wrap(group.info, group.content.toString());
+            int position = group.info.getPosition();
+            int clearLength = group.info.getClearLength();
+            edit.addChild(
+                clearLength > 0 ? new ReplaceEdit(position, clearLength, text) : new InsertEdit(position, text));
+        }
+
+        try
+        {
+            edit.apply(document, TextEdit.NONE);
+        }
+        catch (MalformedTreeException e)
+        {
+            throw new BadLocationException(e.getMessage());
+        }
+    }
+
+    private IBslModuleTextInsertInfo getEventHandlerTextInsertInfo(IXtextDocument document, ModuleRegions regions,
+        int defaultPosition, BslModuleEventData bslModuleEventData)
+    {
+        IV8Project project = regions.project;
+        EObject eventOwner = bslModuleEventData.getEventOwner();
+        EventItemType itemType = bslModuleEventData.getEventItemType();
         String suffix = getSuffix(eventOwner, itemType, bslModuleEventData.isInternal());
-        ScriptVariant scriptVariant = project.getScriptVariant();
+        ScriptVariant scriptVariant = regions.scriptVariant;
         String declaredRegionName =
-            getDeclaredRegionName(moduleInfo.owner, itemType, bslModuleEventData.isInternal(), scriptVariant);
-        Map<String, BslModuleOffsets> regionOffsets =
-            getRegionOffsets(document, moduleInfo.regionPreprocessors, declaredRegionName, scriptVariant);
+            getDeclaredRegionName(regions.owner, itemType, bslModuleEventData.isInternal(), scriptVariant);
+        Map<String, BslModuleOffsets> regionOffsets = regions.getRegionOffsets(declaredRegionName);
         BslModuleOffsets bslModuleOffsets = regionOffsets.get(declaredRegionName);
         int offset = getRegionOffset(regionOffsets, declaredRegionName, suffix, defaultPosition, scriptVariant);
         String regionName = null;
@@ -107,7 +197,7 @@ public class BslModuleRegionsInfoService
         {
             regionName = suffix.isEmpty() ? declaredRegionName : (declaredRegionName + suffix);
         }
-        return new BslModuleRegionsInfo(resourceURI, offset, clearOffset, clearLength, regionName);
+        return new BslModuleRegionsInfo(document.getResourceURI(), offset, clearOffset, clearLength, regionName);
     }
 
     @Override
@@ -143,68 +233,116 @@ public class BslModuleRegionsInfoService
         return content;
     }
 
-    private Map<String, BslModuleOffsets> getRegionOffsets(IXtextDocument document,
-        List<RegionPreprocessor> regionPreprocessors, String targetRegionName, ScriptVariant scriptVariant)
+    private ModuleRegions getModuleRegions(IXtextDocument document)
     {
-        ModuleStructureSection[] declaredRegionNames = ModuleStructureSection.values();
-        Map<String, BslModuleOffsets> regionOffsets = new HashMap<>(declaredRegionNames.length / 2);
+        URI resourceURI = document.getResourceURI();
+        IResourceServiceProvider rsp =
+            IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(resourceURI);
+        IV8ProjectManager projectManager = rsp.get(IV8ProjectManager.class);
+        IV8Project project = projectManager.getProject(resourceURI);
+        ScriptVariant scriptVariant = project.getScriptVariant();
+
+        long stamp = document instanceof IDocumentExtension4 documentExtension
+            ? documentExtension.getModificationStamp()
+            : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+        ModuleRegions regions = moduleRegions.get(document);
+        if (regions != null && stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && regions.stamp == stamp
+            && regions.project.equals(project) && regions.scriptVariant == scriptVariant)
+        {
+            return regions;
+        }
+
+        ModuleInfoUnitOfWork moduleInfoUnitOfWork = new ModuleInfoUnitOfWork(rsp.get(BslOwnerComputerService.class));
+        ModuleInfo moduleInfo = document instanceof BslXtextDocument bslXTextDocument
+            ? bslXTextDocument.readOnlyDataModelWithoutSync(moduleInfoUnitOfWork)
+            : document.readOnly(moduleInfoUnitOfWork);
+        regions = new ModuleRegions(stamp, project, scriptVariant, moduleInfo.owner);
+        collectRegionOffsets(document, moduleInfo.regionPreprocessors, regions);
+        if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP)
+        {
+            moduleRegions.put(document, regions);
+        }
+        return regions;
+    }
+
+    private void collectRegionOffsets(IXtextDocument document, List<RegionPreprocessor> regionPreprocessors,
+        ModuleRegions regions)
+    {
+        Map<String, ModuleStructureSection> sections = new HashMap<>();
+        List<ModuleStructureSection> suffixedSections = new ArrayList<>();
+        for (ModuleStructureSection section : ModuleStructureSection.values())
+        {
+            if (section.isSuffixed())
+            {
+                suffixedSections.add(section);
+            }
+            else
+            {
+                sections.put(section.getName(regions.scriptVariant), section);
+            }
+        }
+
+        Map<String, BslModuleOffsets> regionOffsets = regions.regionOffsets;
         for (RegionPreprocessor regionPreprocessor : regionPreprocessors)
         {
+            String preprocessorRegionName = regionPreprocessor.getName();
+            if (preprocessorRegionName == null)
+            {
+                continue;
+            }
             INode nodeAfter = NodeModelUtils.findActualNodeFor(regionPreprocessor.getItemAfter());
-            if (nodeAfter != null)
+            if (nodeAfter == null)
+            {
+                continue;
+            }
+
+            if (sections.containsKey(preprocessorRegionName))
             {
-                String preprocessorRegionName = regionPreprocessor.getName();
-                for (int regionNameIndex = 0; regionNameIndex < declaredRegionNames.length; regionNameIndex++)
+                INode node = NodeModelUtils.findActualNodeFor(regionPreprocessor.getItem());
+                BslModuleOffsets moduleRegionInformation =
+                    node == null ? null : BslModuleOffsets.create(document, node, nodeAfter);
+                if (moduleRegionInformation != null)
                 {
-                    ModuleStructureSection moduleStructureSection = declaredRegionNames[regionNameIndex];
-                    String declaredRegionName = moduleStructureSection.getName(scriptVariant);
-                    if ((preprocessorRegionName != null)
-                        && isMatchingRegion(preprocessorRegionName, declaredRegionName))
+                    // the first region with the declared name is the target of insertion
+                    if (!regions.firstRegionOffsets.containsKey(preprocessorRegionName))
                     {
-                        INode node = NodeModelUtils.findActualNodeFor(regionPreprocessor.getItem());
-                        if (node != null)
+                        if (node.getLength() == 0)
                         {
-                            BslModuleOffsets moduleRegionInformation = null;
-                            if (!preprocessorRegionName.equals(declaredRegionName))
-                            {
-                                if (!moduleStructureSection.isSuffixed())
-                                {
-                                    continue;
-                                }
-                                String suffix = getSuffixOfMatchingRegion(preprocessorRegionName, declaredRegionName);
-                                moduleRegionInformation = regionOffsets.get(declaredRegionName);
-                                if (moduleRegionInformation == null)
-                                {
-                                    moduleRegionInformation = BslModuleOffsets.create(document, node, nodeAfter);
-                                    if (moduleRegionInformation == null)
-                                    {
-                                        return regionOffsets;
-                                    }
-                                }
-                                moduleRegionInformation.addSuffix(suffix, document, node, nodeAfter);
-                            }
-                            if (moduleRegionInformation == null && !moduleStructureSection.isSuffixed())
-                            {
-                                moduleRegionInformation = BslModuleOffsets.create(document, node, nodeAfter);
-                            }
-                            if (moduleRegionInformation != null)
+                            moduleRegionInformation.setNeedReplace();
+                        }
+                        regions.firstRegionOffsets.put(preprocessorRegionName, moduleRegionInformation);
+                    }
+                    regionOffsets.put(preprocessorRegionName, moduleRegionInformation);
+                }
+                continue;
+            }
+
+            for (ModuleStructureSection moduleStructureSection : suffixedSections)
+            {
+                String declaredRegionName = moduleStructureSection.getName(regions.scriptVariant);
+                if (preprocessorRegionName.length() > declaredRegionName.length()
+                    && isMatchingRegion(preprocessorRegionName, declaredRegionName))
+                {
+                    INode node = NodeModelUtils.findActualNodeFor(regionPreprocessor.getItem());
+                    if (node != null)
+                    {
+                        String suffix = getSuffixOfMatchingRegion(preprocessorRegionName, declaredRegionName);
+                        BslModuleOffsets moduleRegionInformation = regionOffsets.get(declaredRegionName);
+                        if (moduleRegionInformation == null)
+                        {
+                            moduleRegionInformation = BslModuleOffsets.create(document, node, nodeAfter);
+                            if (moduleRegionInformation == null)
                             {
-                                regionOffsets.put(declaredRegionName, moduleRegionInformation);
-                                if ((targetRegionName != null) && targetRegionName.equals(preprocessorRegionName))
-                                {
-                                    if (node.getLength() == 0)
-                                    {
-                                        moduleRegionInformation.setNeedReplace();
-                                    }
-                                    return regionOffsets;
-                                }
+                                return;
                             }
                         }
+                        moduleRegionInformation.addSuffix(suffix, document, node, nodeAfter);
+                        regionOffsets.put(declaredRegionName, moduleRegionInformation);
                     }
+                    break;
                 }
             }
         }
-        return regionOffsets;
     }
 
     private int getRegionOffset(Map<String, BslModuleOffsets> regionOffsets, String declaredRegionName, String suffix,
@@ -366,6 +504,54 @@ public class BslModuleRegionsInfoService
         }
     }
 
+    /**
+     * The offsets of regions of the module document computed once per modification stamp of the document.
+     */
+    private static final class ModuleRegions
+    {
+        private final long stamp;
+        private final IV8Project project;
+        private final ScriptVariant scriptVariant;
+        private final EClass owner;
+        private final Map<String, BslModuleOffsets> regionOffsets = new HashMap<>();
+        private final Map<String, BslModuleOffsets> firstRegionOffsets = new HashMap<>();
+
+        private ModuleRegions(long stamp, IV8Project project, ScriptVariant scriptVariant, EClass owner)
+        {
+            this.stamp = stamp;
+            this.project = project;
+            this.scriptVariant = scriptVariant;
+            this.owner = owner;
+        }
+
+        private Map<String, BslModuleOffsets> getRegionOffsets(String targetRegionName)
+        {
+            BslModuleOffsets target = firstRegionOffsets.get(targetRegionName);
+            if (target == null || target == regionOffsets.get(targetRegionName))
+            {
+                return regionOffsets;
+            }
+            Map<String, BslModuleOffsets> result = new HashMap<>(regionOffsets);
+            result.put(targetRegionName, target);
+            return result;
+        }
+    }
+
+    private record InsertKey(int position, int clearLength, String regionName)
+    {
+    }
+
+    private static final class HandlerGroup
+    {
+        private final IBslModuleTextInsertInfo info;
+        private final StringBuilder content = new StringBuilder();
+
+        private HandlerGroup(IBslModuleTextInsertInfo info)
+        {
+            this.info = info;
+        }
+    }
+
     private final class ModuleInfoUnitOfWork
         implements IUnitOfWork<ModuleInfo, XtextResource>
     {
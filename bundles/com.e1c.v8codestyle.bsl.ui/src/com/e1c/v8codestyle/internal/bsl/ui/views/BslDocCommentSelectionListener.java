@@ -34,7 +34,6 @@ import org.eclipse.xtext.util.concurrent.CancelableUnitOfWork;
 
 import com._1c.g5.v8.dt.bsl.comment.DocumentationCommentProperties;
 import com._1c.g5.v8.dt.bsl.common.IBslPreferences;
-import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment.Description;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment.ParametersSection;
@@ -53,6 +52,7 @@ import com._1c.g5.v8.dt.bsl.model.Module;
 import com._1c.g5.v8.dt.bsl.ui.editor.BslXtextDocument;
 import com._1c.g5.v8.dt.common.Pair;
 import com._1c.g5.v8.dt.core.platform.IResourceLookup;
+import com.e1c.v8codestyle.bsl.DocCommentCache;
 
 /**
  * The listener interface for receiving {@link ISelection} events.
@@ -216,7 +216,7 @@ public class BslDocCommentSelectionListener
         IProject project = resourceLookup.getProject(method);
         DocumentationCommentProperties props = bslPreferences.getDocumentCommentProperties(project);
 
-        return BslCommentUtils.parseTemplateComment(method, props.oldCommentFormat(), commentProvider);
+        return DocCommentCache.parseTemplateComment(method, props.oldCommentFormat(), commentProvider);
     }
 
     private Object getSelected(BslDocumentationComment docComment, EObject method, int offset)
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslMultiLineCommentDocumentationProvider;
+import com._1c.g5.v8.dt.bsl.model.Method;
+
+/**
+ * The shared cache of parsed documentation comments of methods. Comments are kept by the URI of the method
+ * for both old and new comment formats.
+ * <p>
+ * The cache is kept in the module resource adapter and is dropped when the module is parsed again.
+ * The parsed comments are shared between all callers, so callers should not modify them.
+ *
+ * @author agent
+ */
+public final class DocCommentCache
+{
+
+    /**
+     * Gets the parsed documentation comment of the method.
+     *
+     * @param method the method, cannot be {@code null}.
+     * @param oldFormat the old format of the comment
+     * @param commentProvider the comment provider, cannot be {@code null}.
+     * @return the parsed documentation comment that should not be modified
+     * @see BslCommentUtils#parseTemplateComment(Method, boolean, BslMultiLineCommentDocumentationProvider)
+     */
+    public static BslDocumentationComment parseTemplateComment(Method method, boolean oldFormat,
+        BslMultiLineCommentDocumentationProvider commentProvider)
+    {
+        Resource resource = method.eResource();
+        if (!(resource instanceof XtextResource xtextResource) || xtextResource.getParseResult() == null)
+        {
+            return BslCommentUtils.parseTemplateComment(method, oldFormat, commentProvider);
+        }
+
+        CommentsAdapter adapter = (CommentsAdapter)EcoreUtil.getExistingAdapter(resource, CommentsAdapter.class);
+        if (adapter == null)
+        {
+            synchronized (resource.eAdapters())
+            {
+                // double check and add adapter if absent
+                adapter = (CommentsAdapter)EcoreUtil.getExistingAdapter(resource, CommentsAdapter.class);
+                if (adapter == null)
+                {
+                    adapter = new CommentsAdapter();
+                    resource.eAdapters().add(adapter);
+                }
+            }
+        }
+
+        Map<CommentKey, BslDocumentationComment> comments = adapter.getComments(xtextResource.getParseResult());
+        CommentKey key = new CommentKey(resource.getURIFragment(method), oldFormat);
+        BslDocumentationComment comment = comments.get(key);
+        if (comment == null)
+        {
+            comment = BslCommentUtils.parseTemplateComment(method, oldFormat, commentProvider);
+            if (comment != null)
+            {
+                comments.put(key, comment);
+            }
+        }
+        return comment;
+    }
+
+    private DocCommentCache()
+    {
+        throw new IllegalAccessError();
+    }
+
+    private record CommentKey(String methodUriFragment, boolean oldFormat)
+    {
+    }
+
+    private record ParsedComments(IParseResult parseResult, Map<CommentKey, BslDocumentationComment> comments)
+    {
+    }
+
+    private static final class CommentsAdapter
+        extends AdapterImpl
+    {
+
+        private volatile ParsedComments parsedComments;
+
+        private Map<CommentKey, BslDocumentationComment> getComments(IParseResult parseResult)
+        {
+            ParsedComments current = parsedComments;
+            if (current == null || current.parseResult() != parseResult)
+            {
+                current = new ParsedComments(parseResult, new ConcurrentHashMap<>());
+                parsedComments = current;
+            }
+            return current.comments();
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type)
+        {
+            return getClass() == type;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+
+import com._1c.g5.v8.dt.bsl.model.Expression;
+import com._1c.g5.v8.dt.bsl.resource.TypesComputer;
+import com._1c.g5.v8.dt.mcore.Environmental;
+import com._1c.g5.v8.dt.mcore.util.McoreUtil;
+
+/**
+ * The cache of computed type names of expressions of the module. The type names are computed by
+ * {@link TypesComputer} in environments of the expression container.
+ * <p>
+ * The cache is kept in the module resource adapter and is shared by all checks of the module, it is dropped
+ * when the module is parsed again, so the expressions of the previous parse result are released.
+ *
+ * @author agent
+ */
+public final class ExpressionTypeNamesCache
+{
+
+    private final TypesComputer typesComputer;
+
+    private final Map<Expression, List<String>> typeNames = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the cache of expression type names of the module of the object.
+     *
+     * @param object the object of the module, cannot be {@code null}.
+     * @param typesComputer the types computer service, cannot be {@code null}.
+     * @return the cache shared for the current parse result of the module, or a new cache if the module
+     *         has no parse result, cannot return {@code null}.
+     */
+    public static ExpressionTypeNamesCache get(EObject object, TypesComputer typesComputer)
+    {
+        Resource resource = object.eResource();
+        if (!(resource instanceof XtextResource xtextResource) || xtextResource.getParseResult() == null)
+        {
+            return new ExpressionTypeNamesCache(typesComputer);
+        }
+
+        TypeNamesAdapter adapter = (TypeNamesAdapter)EcoreUtil.getExistingAdapter(resource, TypeNamesAdapter.class);
+        if (adapter == null)
+        {
+            synchronized (resource.eAdapters())
+            {
+                // double check and add adapter if absent
+                adapter = (TypeNamesAdapter)EcoreUtil.getExistingAdapter(resource, TypeNamesAdapter.class);
+                if (adapter == null)
+                {
+                    adapter = new TypeNamesAdapter();
+                    resource.eAdapters().add(adapter);
+                }
+            }
+        }
+        return adapter.getCache(xtextResource.getParseResult(), typesComputer);
+    }
+
+    private ExpressionTypeNamesCache(TypesComputer typesComputer)
+    {
+        this.typesComputer = typesComputer;
+    }
+
+    /**
+     * Gets the type names of the expression computed in environments of the expression container.
+     *
+     * @param expression the expression, cannot be {@code null}.
+     * @return the unmodifiable list of type names, cannot return {@code null}.
+     */
+    public List<String> getTypeNames(Expression expression)
+    {
+        List<String> result = typeNames.get(expression);
+        if (result == null)
+        {
+            // compute out of the map, the types computer may take long time to infer types
+            result = computeTypeNames(expression);
+            List<String> existing = typeNames.putIfAbsent(expression, result);
+            if (existing != null)
+            {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private List<String> computeTypeNames(Expression expression)
+    {
+        Environmental environmental = EcoreUtil2.getContainerOfType(expression, Environmental.class);
+        if (environmental == null)
+        {
+            return List.of();
+        }
+
+        return typesComputer.computeTypes(expression, environmental.environments())
+            .stream()
+            .map(McoreUtil::getTypeName)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private record ParsedCache(IParseResult parseResult, ExpressionTypeNamesCache cache)
+    {
+    }
+
+    private static final class TypeNamesAdapter
+        extends AdapterImpl
+    {
+
+        private volatile ParsedCache parsedCache;
+
+        private ExpressionTypeNamesCache getCache(IParseResult parseResult, TypesComputer typesComputer)
+        {
+            ParsedCache current = parsedCache;
+            if (current == null || current.parseResult() != parseResult)
+            {
+                current = new ParsedCache(parseResult, new ExpressionTypeNamesCache(typesComputer));
+                parsedCache = current;
+            }
+            return current.cache();
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type)
+        {
+            return getClass() == type;
+        }
+    }
+
+}
@@ -29,7 +29,7 @@ public interface IAsyncInvocationProvider
      * Global context methods.
      *
      * @param version the version of platform, cannot be {@code null}
-     * @return the asynchronous invocation names
+     * @return the unmodifiable collection of asynchronous invocation names, cannot return {@code null}.
      */
     Collection<String> getAsyncInvocationNames(Version version);
 
@@ -37,7 +37,8 @@ public interface IAsyncInvocationProvider
      * Methods with a list of types in which they are used.
      *
      * @param version the version of platform, cannot be {@code null}
-     * @return the asynchronous type method names
+     * @return the unmodifiable map of asynchronous method names to unmodifiable collections of type names,
+     *         cannot return {@code null}.
      */
     Map<String, Collection<String>> getAsyncTypeMethodNames(Version version);
 
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * Per-project inverse index of BSL method references: target method URI to the set of URIs of source objects
+ * that refer to the method from other modules. References are grouped by the project of the target method.
+ * <p>
+ * The index is built once from the persisted resource descriptions and then maintained incrementally
+ * from the resource description deltas of the builder, so checks may query it for each export method.
+ *
+ * @author agent
+ */
+public interface IExportMethodCallerIndex
+{
+
+    /**
+     * Gets the URIs of the source objects that refer to the method from other modules.
+     *
+     * @param methodUri the URI of the target method, cannot be {@code null}.
+     * @param monitor the progress monitor, cannot be {@code null}.
+     * @return the immutable set of caller URIs, never {@code null}, may be empty.
+     */
+    Set<URI> getCallers(URI methodUri, IProgressMonitor monitor);
+
+    /**
+     * Checks if the method has at least one caller in other module.
+     *
+     * @param methodUri the URI of the target method, cannot be {@code null}.
+     * @param monitor the progress monitor, cannot be {@code null}.
+     * @return true, if the method is called from other module
+     */
+    boolean hasCallerInOtherModule(URI methodUri, IProgressMonitor monitor);
+
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import org.eclipse.core.resources.IProject;
+
+/**
+ * The per-project index of common module methods that are used as handlers of scheduled jobs
+ * and event subscriptions. The handler name is in format "CommonModule.ModuleName.MethodName"
+ * and is compared case-insensitive.
+ *
+ * @author agent
+ */
+public interface IMdHandlerMethodIndex
+{
+
+    /**
+     * Checks if the method is a handler of any scheduled job or event subscription of the project.
+     *
+     * @param project the project, cannot be {@code null}.
+     * @param handlerName the full name of the handler method, cannot be {@code null}.
+     * @return true, if the method is a handler of scheduled job or event subscription
+     */
+    boolean isScheduledJobOrEventSubscriptionHandler(IProject project, String handlerName);
+
+}
@@ -71,4 +71,14 @@ public interface IModuleStructureProvider
      */
     Collection<String> getModuleStructureRegions(ModuleType moduleType, ScriptVariant scriptVariant);
 
+    /**
+     * Gets the precompiled model of the module structure top regions with order and case-insensitive lookup
+     * of region names.
+     *
+     * @param moduleType the module type, cannot be {@code null}.
+     * @param scriptVariant the script variant, cannot be {@code null}.
+     * @return the model of module structure regions, cannot return {@code null}.
+     */
+    ModuleStructureRegions getModuleStructure(ModuleType moduleType, ScriptVariant scriptVariant);
+
 }
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.Set;
+
+import com._1c.g5.v8.dt.platform.version.Version;
+
+/**
+ * Platform {@code Query} type methods that execute query provider.
+ *
+ * @author agent
+ */
+public interface IQueryExecutionMethodProvider
+{
+
+    /**
+     * Gets the names of methods of {@code Query} type that execute query, in English and Russian.
+     *
+     * @param version the version of platform, cannot be {@code null}
+     * @return the unmodifiable case-insensitive set of the query execution method names, cannot return {@code null}.
+     */
+    Set<String> getQueryExecutionMethodNames(Version version);
+
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+
+import com._1c.g5.v8.dt.bsl.model.DynamicFeatureAccess;
+import com._1c.g5.v8.dt.bsl.model.Invocation;
+import com._1c.g5.v8.dt.bsl.model.LoopStatement;
+import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com._1c.g5.v8.dt.bsl.model.OperatorStyleCreator;
+import com._1c.g5.v8.dt.bsl.model.RegionPreprocessor;
+import com._1c.g5.v8.dt.bsl.model.StaticFeatureAccess;
+
+/**
+ * The facts of the module collected by single pass over the module tree. The module objects are grouped to
+ * buckets by type: loops, invocations, dynamic and static feature accesses, operator style creators and regions.
+ * Each bucket is available for whole module and for each method of the module, in order of objects in the module.
+ * <p>
+ * The facts are cached in the module resource adapter for the parse result of the module, and are dropped when
+ * the module is parsed again (including partial reparse of a method body) or the resource is changed.
+ * So the checks of the same module share one pass over the module tree instead of traversing it independently.
+ *
+ * @author agent
+ */
+public final class ModuleFacts
+{
+
+    /** The types of the module objects that collected to buckets. */
+    public static final List<Class<? extends EObject>> BUCKET_TYPES = List.of(LoopStatement.class, Invocation.class,
+        DynamicFeatureAccess.class, StaticFeatureAccess.class, OperatorStyleCreator.class, RegionPreprocessor.class);
+
+    private final Map<Class<? extends EObject>, List<EObject>> moduleBuckets = new HashMap<>();
+
+    private final Map<Method, Map<Class<? extends EObject>, List<EObject>>> methodBuckets = new HashMap<>();
+
+    /**
+     * Gets the facts of the module, collects them if there is no actual facts for the module.
+     *
+     * @param module the module, cannot be {@code null}.
+     * @return the module facts, cannot return {@code null}.
+     */
+    public static ModuleFacts getFacts(Module module)
+    {
+        Resource resource = module.eResource();
+        if (!(resource instanceof XtextResource xtextResource) || xtextResource.getParseResult() == null)
+        {
+            // there is no parse result to detect that the facts are actual
+            return new ModuleFacts(module);
+        }
+
+        ModuleFactsAdapter adapter =
+            (ModuleFactsAdapter)EcoreUtil.getExistingAdapter(resource, ModuleFactsAdapter.class);
+        if (adapter == null)
+        {
+            synchronized (resource.eAdapters())
+            {
+                // double check and add adapter if absent
+                adapter = (ModuleFactsAdapter)EcoreUtil.getExistingAdapter(resource, ModuleFactsAdapter.class);
+                if (adapter == null)
+                {
+                    adapter = new ModuleFactsAdapter();
+                    resource.eAdapters().add(adapter);
+                }
+            }
+        }
+        return adapter.getFacts(xtextResource.getParseResult(), module);
+    }
+
+    /**
+     * Gets all objects of the module of the bucket type in order of the module.
+     *
+     * @param <T> the bucket type
+     * @param type the type of the bucket, should be one of {@link #BUCKET_TYPES}, cannot be {@code null}.
+     * @return the unmodifiable list of the objects, cannot return {@code null}.
+     * @throws IllegalArgumentException if the type is not a bucket type
+     */
+    public <T extends EObject> List<T> getAll(Class<T> type)
+    {
+        return getBucket(moduleBuckets, type);
+    }
+
+    /**
+     * Gets all objects of the method of the bucket type in order of the module.
+     *
+     * @param <T> the bucket type
+     * @param method the method of the module, cannot be {@code null}.
+     * @param type the type of the bucket, should be one of {@link #BUCKET_TYPES}, cannot be {@code null}.
+     * @return the unmodifiable list of the objects, cannot return {@code null}.
+     * @throws IllegalArgumentException if the type is not a bucket type
+     */
+    public <T extends EObject> List<T> getAll(Method method, Class<T> type)
+    {
+        Map<Class<? extends EObject>, List<EObject>> buckets = methodBuckets.get(method);
+        if (buckets == null)
+        {
+            checkBucketType(type);
+            return List.of();
+        }
+        return getBucket(buckets, type);
+    }
+
+    private ModuleFacts(Module module)
+    {
+        visit(module, null);
+
+        moduleBuckets.replaceAll((type, list) -> Collections.unmodifiableList(list));
+        methodBuckets.values()
+            .forEach(buckets -> buckets.replaceAll((type, list) -> Collections.unmodifiableList(list)));
+    }
+
+    private void visit(EObject object, Method method)
+    {
+        for (EObject child : object.eContents())
+        {
+            Method owner = child instanceof Method childMethod ? childMethod : method;
+            for (Class<? extends EObject> type : BUCKET_TYPES)
+            {
+                if (type.isInstance(child))
+                {
+                    moduleBuckets.computeIfAbsent(type, t -> new ArrayList<>()).add(child);
+                    if (owner != null)
+                    {
+                        methodBuckets.computeIfAbsent(owner, m -> new HashMap<>())
+                            .computeIfAbsent(type, t -> new ArrayList<>())
+                            .add(child);
+                    }
+                }
+            }
+            visit(child, owner);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends EObject> List<T> getBucket(Map<Class<? extends EObject>, List<EObject>> buckets,
+        Class<T> type)
+    {
+        checkBucketType(type);
+        List<EObject> bucket = buckets.get(type);
+        return bucket == null ? List.of() : (List<T>)bucket;
+    }
+
+    private static void checkBucketType(Class<?> type)
+    {
+        if (!BUCKET_TYPES.contains(type))
+        {
+            throw new IllegalArgumentException("Unsupported module facts bucket type: " + type.getName()); //$NON-NLS-1$
+        }
+    }
+
+    private record ParsedFacts(long modificationStamp, IParseResult parseResult, Module module, ModuleFacts facts)
+    {
+    }
+
+    private static final class ModuleFactsAdapter
+        extends AdapterImpl
+    {
+
+        private final AtomicReference<ParsedFacts> parsedFacts =
+            new AtomicReference<>(new ParsedFacts(0, null, null, null));
+
+        private ModuleFacts getFacts(IParseResult parseResult, Module module)
+        {
+            ParsedFacts current = parsedFacts.get();
+            if (current.facts() != null && current.parseResult() == parseResult && current.module() == module)
+            {
+                return current.facts();
+            }
+
+            ModuleFacts facts = new ModuleFacts(module);
+            // publish the facts only if the resource was not changed while they were being collected
+            parsedFacts.compareAndSet(current,
+                new ParsedFacts(current.modificationStamp(), parseResult, module, facts));
+            return facts;
+        }
+
+        @Override
+        public void notifyChanged(Notification msg)
+        {
+            if (!msg.isTouch())
+            {
+                parsedFacts.updateAndGet(current -> new ParsedFacts(current.modificationStamp() + 1, null, null, null));
+            }
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type)
+        {
+            return getClass() == type;
+        }
+    }
+
+}
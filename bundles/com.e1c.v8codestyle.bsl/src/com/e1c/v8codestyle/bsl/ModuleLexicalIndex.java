@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+
+/**
+ * The lexical index of the module text, that is built by one walk over leaf nodes of the module.
+ * The index contains positions of semicolons, runs of whitespaces with line breaks and the lower-cased
+ * text of the module, so lexical checks do not need to get and convert the text of each node.
+ * <p>
+ * Text of the node is the total text of the node including hidden tokens, the same as {@link INode#getText()}.
+ * The index is built once per parse result of the module resource and is kept in the resource adapter.
+ *
+ * @author agent
+ */
+public final class ModuleLexicalIndex
+{
+
+    private static final char SEMICOLON = ';';
+
+    private final String text;
+
+    private final String lowerCaseText;
+
+    private final int[] semicolons;
+
+    private final List<LineBreaks> lineBreaks;
+
+    /**
+     * Gets the lexical index of the module of the object.
+     *
+     * @param object the object of the module, cannot be {@code null}.
+     * @return the lexical index, or {@code null} if the module is not parsed into the node model.
+     */
+    public static ModuleLexicalIndex get(EObject object)
+    {
+        Resource resource = object.eResource();
+        if (!(resource instanceof XtextResource xtextResource))
+        {
+            return null;
+        }
+        IParseResult parseResult = xtextResource.getParseResult();
+        if (parseResult == null || parseResult.getRootNode() == null)
+        {
+            return null;
+        }
+
+        LexicalIndexAdapter adapter =
+            (LexicalIndexAdapter)EcoreUtil.getExistingAdapter(resource, LexicalIndexAdapter.class);
+        if (adapter == null)
+        {
+            synchronized (resource.eAdapters())
+            {
+                // double check and add adapter if absent
+                adapter = (LexicalIndexAdapter)EcoreUtil.getExistingAdapter(resource, LexicalIndexAdapter.class);
+                if (adapter == null)
+                {
+                    adapter = new LexicalIndexAdapter();
+                    resource.eAdapters().add(adapter);
+                }
+            }
+        }
+        return adapter.getIndex(parseResult);
+    }
+
+    private ModuleLexicalIndex(ICompositeNode rootNode)
+    {
+        this.text = rootNode.getText();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        // offsets of lower-cased text should match offsets of nodes
+        this.lowerCaseText = lowerCase.length() == text.length() ? lowerCase : null;
+
+        int[] semicolonOffsets = new int[16];
+        int semicolonCount = 0;
+        List<LineBreaks> whitespaces = new ArrayList<>();
+        for (ILeafNode leafNode : rootNode.getLeafNodes())
+        {
+            int start = leafNode.getTotalOffset();
+            int end = leafNode.getTotalEndOffset();
+            boolean whitespace = leafNode.isHidden();
+            int lineBreakCount = 0;
+            for (int i = start; i < end; i++)
+            {
+                char c = text.charAt(i);
+                if (c == SEMICOLON)
+                {
+                    if (semicolonCount == semicolonOffsets.length)
+                    {
+                        semicolonOffsets = Arrays.copyOf(semicolonOffsets, semicolonCount * 2);
+                    }
+                    semicolonOffsets[semicolonCount++] = i;
+                }
+                else if (c == '\n')
+                {
+                    lineBreakCount++;
+                }
+                whitespace &= Character.isWhitespace(c);
+            }
+            if (whitespace && lineBreakCount > 0)
+            {
+                whitespaces.add(createLineBreaks(leafNode, start, end, lineBreakCount));
+            }
+        }
+        this.semicolons = Arrays.copyOf(semicolonOffsets, semicolonCount);
+        this.lineBreaks = Collections.unmodifiableList(whitespaces);
+    }
+
+    /**
+     * Checks if the text of the node contains a semicolon character.
+     *
+     * @param node the node of the module, cannot be {@code null}.
+     * @return true, if the text of the node contains a semicolon
+     */
+    public boolean containsSemicolon(INode node)
+    {
+        int start = node.getTotalOffset();
+        int index = Arrays.binarySearch(semicolons, start);
+        if (index >= 0)
+        {
+            return true;
+        }
+        int next = -index - 1;
+        return next < semicolons.length && semicolons[next] < node.getTotalEndOffset();
+    }
+
+    /**
+     * Checks if the text of the node contains the lower-cased text ignoring case.
+     *
+     * @param node the node of the module, cannot be {@code null}.
+     * @param lowerCaseText the lower-cased text to find, cannot be {@code null}.
+     * @return true, if the text of the node contains the text ignoring case
+     */
+    public boolean containsIgnoreCase(INode node, String lowerCaseText)
+    {
+        int start = node.getTotalOffset();
+        int end = node.getTotalEndOffset();
+        if (this.lowerCaseText == null)
+        {
+            return text.substring(start, end).toLowerCase(Locale.ROOT).contains(lowerCaseText);
+        }
+        int index = this.lowerCaseText.indexOf(lowerCaseText, start);
+        return index != -1 && index + lowerCaseText.length() <= end;
+    }
+
+    /**
+     * Gets the runs of whitespaces of the module that contain line breaks, in order of offsets.
+     *
+     * @return the unmodifiable list of whitespaces with line breaks, cannot return {@code null}.
+     */
+    public List<LineBreaks> getLineBreaks()
+    {
+        return lineBreaks;
+    }
+
+    private LineBreaks createLineBreaks(ILeafNode leafNode, int start, int end, int lineBreakCount)
+    {
+        int[] lineStarts = new int[lineBreakCount];
+        int count = 0;
+        for (int i = start; i < end; i++)
+        {
+            if (text.charAt(i) == '\n')
+            {
+                lineStarts[count++] = i + 1;
+            }
+        }
+        return new LineBreaks(leafNode, start, end, lineStarts);
+    }
+
+    /**
+     * The run of whitespaces of the module that contains line breaks.
+     *
+     * @param leafNode the hidden leaf node of whitespaces, cannot be {@code null}.
+     * @param offset the offset of the whitespaces
+     * @param endOffset the end offset of the whitespaces
+     * @param lineStarts the offsets of line starts after each line break inside of the whitespaces,
+     *      cannot be {@code null}.
+     */
+    public record LineBreaks(ILeafNode leafNode, int offset, int endOffset, int[] lineStarts)
+    {
+    }
+
+    private record ParsedIndex(IParseResult parseResult, ModuleLexicalIndex index)
+    {
+    }
+
+    private static final class LexicalIndexAdapter
+        extends AdapterImpl
+    {
+
+        private volatile ParsedIndex parsedIndex;
+
+        private ModuleLexicalIndex getIndex(IParseResult parseResult)
+        {
+            ParsedIndex current = parsedIndex;
+            if (current == null || current.parseResult() != parseResult)
+            {
+                current = new ParsedIndex(parseResult, new ModuleLexicalIndex(parseResult.getRootNode()));
+                parsedIndex = current;
+            }
+            return current.index();
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type)
+        {
+            return getClass() == type;
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com._1c.g5.v8.dt.bsl.model.RegionPreprocessor;
+
+/**
+ * The interval index of regions of the module. Each region is represented by the text span of its inner item,
+ * so the object is located inside the region if the offset of the object is inside the span.
+ * The spans of regions are sorted by offset, and parent regions of an object are found by binary search
+ * and then by links to parent spans.
+ * <p>
+ * The index is built once per parse result of the module resource and is kept in the resource adapter.
+ *
+ * @author agent
+ */
+public final class ModuleRegionIndex
+{
+
+    private final int[] starts;
+
+    private final int[] ends;
+
+    private final int[] parents;
+
+    private final RegionPreprocessor[] regions;
+
+    /**
+     * Gets the index of regions of the module of the object.
+     *
+     * @param object the object of the module, cannot be {@code null}.
+     * @return the index of regions, or {@code null} if regions of the module are not parsed into the node model.
+     */
+    public static ModuleRegionIndex get(EObject object)
+    {
+        Resource resource = object.eResource();
+        if (!(resource instanceof XtextResource xtextResource))
+        {
+            return null;
+        }
+        IParseResult parseResult = xtextResource.getParseResult();
+        if (parseResult == null || parseResult.getRootNode() == null)
+        {
+            return null;
+        }
+
+        RegionIndexAdapter adapter =
+            (RegionIndexAdapter)EcoreUtil.getExistingAdapter(resource, RegionIndexAdapter.class);
+        if (adapter == null)
+        {
+            synchronized (resource.eAdapters())
+            {
+                // double check and add adapter if absent
+                adapter = (RegionIndexAdapter)EcoreUtil.getExistingAdapter(resource, RegionIndexAdapter.class);
+                if (adapter == null)
+                {
+                    adapter = new RegionIndexAdapter();
+                    resource.eAdapters().add(adapter);
+                }
+            }
+        }
+        return adapter.getIndex(parseResult, object);
+    }
+
+    private ModuleRegionIndex(List<Span> spans)
+    {
+        spans.sort(Comparator.comparingInt(Span::start).thenComparing(Comparator.comparingInt(Span::end).reversed()));
+
+        int size = spans.size();
+        this.starts = new int[size];
+        this.ends = new int[size];
+        this.parents = new int[size];
+        this.regions = new RegionPreprocessor[size];
+
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (int i = 0; i < size; i++)
+        {
+            Span span = spans.get(i);
+            starts[i] = span.start();
+            ends[i] = span.end();
+            regions[i] = span.region();
+            while (!stack.isEmpty() && ends[stack.peek()] <= span.start())
+            {
+                stack.pop();
+            }
+            parents[i] = stack.isEmpty() ? -1 : stack.peek();
+            stack.push(i);
+        }
+    }
+
+    /**
+     * Gets the parent regions of the object, where the object is located inside the region.
+     *
+     * @param object the object of the module, cannot be {@code null}.
+     * @return the list of parent regions from the innermost to the top region, or {@code null} if the object
+     *         has no node in the node model.
+     */
+    public List<RegionPreprocessor> getParentRegions(EObject object)
+    {
+        ICompositeNode node = NodeModelUtils.findActualNodeFor(object);
+        if (node == null)
+        {
+            return null;
+        }
+
+        int offset = node.getOffset();
+        int index = Arrays.binarySearch(starts, offset);
+        if (index < 0)
+        {
+            index = -index - 2;
+        }
+        else
+        {
+            // take the last span that starts at the offset
+            while (index + 1 < starts.length && starts[index + 1] == offset)
+            {
+                index++;
+            }
+        }
+        while (index >= 0 && ends[index] <= offset)
+        {
+            index = parents[index];
+        }
+
+        List<RegionPreprocessor> result = new ArrayList<>();
+        for (; index >= 0; index = parents[index])
+        {
+            if (regions[index] != object)
+            {
+                result.add(regions[index]);
+            }
+        }
+        return result;
+    }
+
+    private static ModuleRegionIndex build(EObject object)
+    {
+        Module module = EcoreUtil2.getContainerOfType(object, Module.class);
+        List<Span> spans = new ArrayList<>();
+        if (module != null)
+        {
+            for (Iterator<EObject> iterator = module.eAllContents(); iterator.hasNext();)
+            {
+                if (iterator.next() instanceof RegionPreprocessor region && region.getItem() != null)
+                {
+                    ICompositeNode node = NodeModelUtils.findActualNodeFor(region.getItem());
+                    if (node != null && node.getLength() > 0)
+                    {
+                        spans.add(new Span(node.getOffset(), node.getEndOffset(), region));
+                    }
+                    else if (node == null && region.getItem().hasElement())
+                    {
+                        // the region content is not in the node model, so it cannot be found by offsets
+                        return null;
+                    }
+                }
+            }
+        }
+        return new ModuleRegionIndex(spans);
+    }
+
+    private record Span(int start, int end, RegionPreprocessor region)
+    {
+    }
+
+    private record ParsedIndex(IParseResult parseResult, ModuleRegionIndex index)
+    {
+    }
+
+    private static final class RegionIndexAdapter
+        extends AdapterImpl
+    {
+
+        private volatile ParsedIndex parsedIndex;
+
+        private ModuleRegionIndex getIndex(IParseResult parseResult, EObject object)
+        {
+            ParsedIndex current = parsedIndex;
+            if (current == null || current.parseResult() != parseResult)
+            {
+                current = new ParsedIndex(parseResult, build(object));
+                parsedIndex = current;
+            }
+            return current.index();
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type)
+        {
+            return getClass() == type;
+        }
+    }
+
+}
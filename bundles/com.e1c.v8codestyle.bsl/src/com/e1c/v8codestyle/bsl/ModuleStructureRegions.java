@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com._1c.g5.v8.dt.bsl.model.ModuleType;
+import com._1c.g5.v8.dt.metadata.mdclass.ScriptVariant;
+
+/**
+ * The precompiled immutable model of standard top regions of the module structure for the module type
+ * and the script variant. Region names are looked up case-insensitively.
+ *
+ * @author agent
+ */
+public final class ModuleStructureRegions
+{
+
+    private static final Set<ModuleStructureSection> EVENT_HANDLER_SECTIONS =
+        Set.of(ModuleStructureSection.EVENT_HANDLERS, ModuleStructureSection.FORM_EVENT_HANDLERS,
+            ModuleStructureSection.FORM_HEADER_ITEMS_EVENT_HANDLERS,
+            ModuleStructureSection.FORM_TABLE_ITEMS_EVENT_HANDLERS, ModuleStructureSection.FORM_COMMAND_EVENT_HANDLERS);
+
+    private final List<String> names;
+
+    private final List<ModuleStructureSection> sections;
+
+    private final Map<String, Integer> indexes;
+
+    private final List<ModuleStructureSection> suffixedSections;
+
+    private final ScriptVariant scriptVariant;
+
+    /**
+     * Compiles the model of standard top regions of the module structure.
+     *
+     * @param moduleType the module type, cannot be {@code null}.
+     * @param scriptVariant the script variant, cannot be {@code null}.
+     * @return the model of regions, cannot return {@code null}.
+     */
+    public static ModuleStructureRegions compile(ModuleType moduleType, ScriptVariant scriptVariant)
+    {
+        return new ModuleStructureRegions(ModuleStructure.getStructureByType(moduleType), scriptVariant);
+    }
+
+    private ModuleStructureRegions(Collection<ModuleStructureSection> structure, ScriptVariant scriptVariant)
+    {
+        this.scriptVariant = scriptVariant;
+
+        List<String> regionNames = new ArrayList<>(structure.size());
+        List<ModuleStructureSection> regionSections = new ArrayList<>(structure.size());
+        List<ModuleStructureSection> suffixed = new ArrayList<>();
+        Map<String, Integer> regionIndexes = new HashMap<>();
+        for (ModuleStructureSection section : structure)
+        {
+            String name = section.getName(scriptVariant);
+            if (regionIndexes.putIfAbsent(toKey(name), regionNames.size()) == null)
+            {
+                regionNames.add(name);
+                regionSections.add(section);
+                if (section.isSuffixed())
+                {
+                    suffixed.add(section);
+                }
+            }
+        }
+        this.names = List.copyOf(regionNames);
+        this.sections = List.copyOf(regionSections);
+        this.indexes = Map.copyOf(regionIndexes);
+        this.suffixedSections = List.copyOf(suffixed);
+    }
+
+    /**
+     * Gets the script variant of region names.
+     *
+     * @return the script variant, cannot return {@code null}.
+     */
+    public ScriptVariant getScriptVariant()
+    {
+        return scriptVariant;
+    }
+
+    /**
+     * Gets the names of standard top regions in order of as they should be in module.
+     *
+     * @return the unmodifiable list of sorted and unique region names, cannot return {@code null}.
+     */
+    public List<String> getNames()
+    {
+        return names;
+    }
+
+    /**
+     * Gets the position of the standard region in the module structure.
+     *
+     * @param regionName the region name, may be {@code null}.
+     * @return the position of the region, or {@code -1} if the name is not the name of standard region.
+     */
+    public int indexOf(String regionName)
+    {
+        if (regionName == null)
+        {
+            return -1;
+        }
+        Integer index = indexes.get(toKey(regionName));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Checks if the region name is the name of standard region of the module structure.
+     *
+     * @param regionName the region name, may be {@code null}.
+     * @return true, if the region is standard
+     */
+    public boolean contains(String regionName)
+    {
+        return indexOf(regionName) != -1;
+    }
+
+    /**
+     * Gets the section of the module structure by the region name. Regions of suffixed sections are matched
+     * by prefix.
+     *
+     * @param regionName the region name, may be {@code null}.
+     * @return the section of the module structure, or {@code null} if the region is not standard.
+     */
+    public ModuleStructureSection getSection(String regionName)
+    {
+        int index = indexOf(regionName);
+        if (index != -1)
+        {
+            return sections.get(index);
+        }
+        if (regionName != null)
+        {
+            for (ModuleStructureSection section : suffixedSections)
+            {
+                String prefix = section.getName(scriptVariant);
+                if (regionName.regionMatches(true, 0, prefix, 0, prefix.length()))
+                {
+                    return section;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the region name is the name of standard region of event handlers of the module structure.
+     *
+     * @param regionName the region name, may be {@code null}.
+     * @return true, if the region is standard region of event handlers
+     */
+    public boolean isEventHandlerRegion(String regionName)
+    {
+        ModuleStructureSection section = getSection(regionName);
+        return section != null && EVENT_HANDLER_SECTIONS.contains(section);
+    }
+
+    private static String toKey(String name)
+    {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
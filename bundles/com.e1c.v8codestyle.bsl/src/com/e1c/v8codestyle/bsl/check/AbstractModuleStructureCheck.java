@@ -12,6 +12,7 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.bsl.check;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.emf.ecore.EObject;
@@ -22,6 +23,7 @@ import com._1c.g5.v8.dt.bsl.model.ModuleType;
 import com._1c.g5.v8.dt.bsl.model.PreprocessorItem;
 import com._1c.g5.v8.dt.bsl.model.RegionPreprocessor;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
+import com.e1c.v8codestyle.bsl.ModuleRegionIndex;
 
 /**
  * Abstract check of module structure, which declare top region names and order, where method should be included
@@ -71,6 +73,12 @@ public abstract class AbstractModuleStructureCheck
      */
     protected Optional<RegionPreprocessor> getFirstParentRegion(EObject object)
     {
+        List<RegionPreprocessor> regions = getParentRegions(object);
+        if (regions != null)
+        {
+            return regions.isEmpty() ? Optional.empty() : Optional.of(regions.get(0));
+        }
+
         EObject parent = object.eContainer();
         PreprocessorItem lastItem = null;
         do
@@ -108,6 +116,20 @@ public abstract class AbstractModuleStructureCheck
      */
     protected Optional<RegionPreprocessor> getParentRegionByName(EObject object, String name)
     {
+        List<RegionPreprocessor> regions = getParentRegions(object);
+        if (regions != null)
+        {
+            RegionPreprocessor region = null;
+            for (RegionPreprocessor parentRegion : regions)
+            {
+                if (parentRegion.getName().equals(name))
+                {
+                    region = parentRegion;
+                }
+            }
+            return Optional.ofNullable(region);
+        }
+
         EObject parent = object.eContainer();
         PreprocessorItem lastItem = null;
         RegionPreprocessor region = null;
@@ -144,6 +166,12 @@ public abstract class AbstractModuleStructureCheck
      */
     protected Optional<RegionPreprocessor> getTopParentRegion(EObject object)
     {
+        List<RegionPreprocessor> regions = getParentRegions(object);
+        if (regions != null)
+        {
+            return regions.isEmpty() ? Optional.empty() : Optional.of(regions.get(regions.size() - 1));
+        }
+
         EObject parent = object.eContainer();
         PreprocessorItem lastItem = null;
         RegionPreprocessor region = null;
@@ -171,4 +199,17 @@ public abstract class AbstractModuleStructureCheck
 
         return Optional.ofNullable(region);
     }
+
+    /**
+     * Gets the parent regions of the object from the index of regions of the module.
+     *
+     * @param object the object, cannot be {@code null}.
+     * @return the list of parent regions from the innermost to the top region, or {@code null} if the object
+     *         is not located in the parsed module.
+     */
+    private static List<RegionPreprocessor> getParentRegions(EObject object)
+    {
+        ModuleRegionIndex index = ModuleRegionIndex.get(object);
+        return index == null ? null : index.getParentRegions(object);
+    }
 }
@@ -22,6 +22,7 @@ import com._1c.g5.v8.dt.bsl.common.Symbols;
 import com._1c.g5.v8.dt.bsl.model.FeatureAccess;
 import com._1c.g5.v8.dt.bsl.model.Invocation;
 import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
 import com._1c.g5.v8.dt.bsl.model.Pragma;
 import com._1c.g5.v8.dt.bsl.model.StaticFeatureAccess;
 import com._1c.g5.v8.dt.lcore.util.CaseInsensitiveString;
@@ -32,6 +33,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.inject.Inject;
@@ -94,14 +96,15 @@ public class ChangeAndValidateInsteadOfAroundCheck
         }
 
         Method method = EcoreUtil2.getContainerOfType(pragma, Method.class);
+        Module module = EcoreUtil2.getContainerOfType(method, Module.class);
 
-        if (method == null)
+        if (method == null || module == null)
         {
             return;
         }
 
         boolean hasProceedWithCall = false;
-        for (Invocation inv : EcoreUtil2.eAllOfType(method, Invocation.class))
+        for (Invocation inv : ModuleFacts.getFacts(module).getAll(method, Invocation.class))
         {
             FeatureAccess methodAccess = inv.getMethodAccess();
             if (!(methodAccess instanceof StaticFeatureAccess))
@@ -15,10 +15,10 @@ package com.e1c.v8codestyle.bsl.check;
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.INVOCATION;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.ecore.EObject;
@@ -41,9 +41,6 @@ import com._1c.g5.v8.dt.bsl.model.Statement;
 import com._1c.g5.v8.dt.bsl.model.StaticFeatureAccess;
 import com._1c.g5.v8.dt.bsl.model.TryExceptStatement;
 import com._1c.g5.v8.dt.bsl.resource.TypesComputer;
-import com._1c.g5.v8.dt.mcore.Environmental;
-import com._1c.g5.v8.dt.mcore.TypeItem;
-import com._1c.g5.v8.dt.mcore.util.McoreUtil;
 import com._1c.g5.v8.dt.platform.version.IRuntimeVersionSupport;
 import com._1c.g5.v8.dt.platform.version.Version;
 import com.e1c.g5.v8.dt.check.CheckComplexity;
@@ -51,6 +48,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ExpressionTypeNamesCache;
 import com.e1c.v8codestyle.bsl.IAsyncInvocationProvider;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
@@ -112,12 +110,13 @@ public final class CodeAfterAsyncCallCheck
         Version version = runtimeVersionSupport.getRuntimeVersionOrDefault((EObject)object, Version.LATEST);
 
         Invocation inv = (Invocation)object;
+        ExpressionTypeNamesCache typeNamesCache = ExpressionTypeNamesCache.get(inv, typesComputer);
         FeatureAccess featureAccess = inv.getMethodAccess();
         if (featureAccess instanceof StaticFeatureAccess)
         {
             Collection<String> asyncMethodsNames = asyncInvocationProvider.getAsyncInvocationNames(version);
             if (asyncMethodsNames.contains(featureAccess.getName())
-                && (isNotifyDescriptionDefined(inv) || !parameters.getBoolean(PARAMETER_NAME)))
+                && (isNotifyDescriptionDefined(inv, typeNamesCache) || !parameters.getBoolean(PARAMETER_NAME)))
             {
                 checkNeighboringStatement(resultAceptor, inv);
             }
@@ -126,12 +125,12 @@ public final class CodeAfterAsyncCallCheck
         {
             Map<String, Collection<String>> names = asyncInvocationProvider.getAsyncTypeMethodNames(version);
             if (names.containsKey(featureAccess.getName())
-                && (isNotifyDescriptionDefined(inv) || !parameters.getBoolean(PARAMETER_NAME)))
+                && (isNotifyDescriptionDefined(inv, typeNamesCache) || !parameters.getBoolean(PARAMETER_NAME)))
             {
                 Expression source = ((DynamicFeatureAccess)featureAccess).getSource();
-                List<TypeItem> sourceTypes = computeTypes(source);
+                List<String> sourceTypeNames = typeNamesCache.getTypeNames(source);
                 Collection<String> collection = names.get(featureAccess.getName());
-                if (collection.retainAll(sourceTypes.stream().map(McoreUtil::getTypeName).collect(Collectors.toSet())))
+                if (sourceTypeNames.isEmpty() || !Collections.disjoint(collection, sourceTypeNames))
                 {
                     checkNeighboringStatement(resultAceptor, inv);
                 }
@@ -139,33 +138,19 @@ public final class CodeAfterAsyncCallCheck
         }
     }
 
-    private boolean isNotifyDescriptionDefined(Invocation inv)
+    private boolean isNotifyDescriptionDefined(Invocation inv, ExpressionTypeNamesCache typeNamesCache)
     {
         for (Expression param : inv.getParams())
         {
-            List<TypeItem> sourceTypes = computeTypes(param);
-            for (TypeItem typeItem : sourceTypes)
+            List<String> sourceTypeNames = typeNamesCache.getTypeNames(param);
+            if (sourceTypeNames.contains(TYPE_NAME_OLD) || sourceTypeNames.contains(TYPE_NAME))
             {
-                if (TYPE_NAME_OLD.equals(McoreUtil.getTypeName(typeItem))
-                    || TYPE_NAME.equals(McoreUtil.getTypeName(typeItem)))
-                {
-                    return true;
-                }
+                return true;
             }
         }
         return false;
     }
 
-    private List<TypeItem> computeTypes(Expression expression)
-    {
-        Environmental environmental = EcoreUtil2.getContainerOfType(expression, Environmental.class);
-        if (environmental != null)
-        {
-            return typesComputer.computeTypes(expression, environmental.environments());
-        }
-        return List.of();
-    }
-
     private void checkNeighboringStatement(ResultAcceptor resultAceptor, Invocation inv)
     {
         Statement statement = getStatementFromInvoc(inv);
@@ -13,30 +13,18 @@
 package com.e1c.v8codestyle.bsl.check;
 
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
-import static org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider.PERSISTED_DESCRIPTIONS;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
-import org.eclipse.xtext.findReferences.IReferenceFinder;
-import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess;
-import org.eclipse.xtext.findReferences.TargetURISet;
-import org.eclipse.xtext.findReferences.TargetURIs;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
-import org.eclipse.xtext.resource.IReferenceDescription;
-import org.eclipse.xtext.resource.IResourceDescriptions;
-import org.eclipse.xtext.resource.IResourceDescriptionsProvider;
 
 import com._1c.g5.v8.bm.core.IBmObject;
 import com._1c.g5.v8.bm.core.IBmTransaction;
@@ -62,6 +50,7 @@ import com.e1c.g5.v8.dt.check.context.CheckContextCollectingSession;
 import com.e1c.g5.v8.dt.check.context.OnModelFeatureChangeContextCollector;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.IExportMethodCallerIndex;
 import com.e1c.v8codestyle.bsl.strict.check.AbstractTypeCheck;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
@@ -78,23 +67,16 @@ public class CommonModuleServerCallCheck
 {
     private static final String CHECK_ID = "common-module-server-call"; //$NON-NLS-1$
 
-    private final IReferenceFinder referenceFinder;
-
-    private final IResourceAccess workSpaceResourceAccess;
-
-    private final IResourceDescriptionsProvider resourceDescriptionsProvider;
+    private final IExportMethodCallerIndex callerIndex;
 
     @Inject
     public CommonModuleServerCallCheck(IResourceLookup resourceLookup, IBslPreferences bslPreferences,
         IQualifiedNameConverter qualifiedNameConverter, ExportMethodTypeProvider exportMethodTypeProvider,
         INamingService namingService, IBmModelManager bmModelManager, IV8ProjectManager v8ProjectManager,
-        IResourceAccess workSpaceResourceAccess, IReferenceFinder referenceFinder,
-        IResourceDescriptionsProvider resourceDescriptionsProvider)
+        IExportMethodCallerIndex callerIndex)
     {
         super(resourceLookup, bslPreferences, qualifiedNameConverter, namingService, bmModelManager, v8ProjectManager);
-        this.workSpaceResourceAccess = workSpaceResourceAccess;
-        this.referenceFinder = referenceFinder;
-        this.resourceDescriptionsProvider = resourceDescriptionsProvider;
+        this.callerIndex = callerIndex;
     }
 
     @Override
@@ -156,87 +138,30 @@ public class CommonModuleServerCallCheck
     @SuppressWarnings("deprecation")
     private boolean callInOtherModule(Method object, IProgressMonitor monitor, IBmTransaction bmTransaction)
     {
-        boolean clientCall = false;
-        List<URI> uRIs = new ArrayList<>();
-        IProgressMonitor subMonitor = new NullProgressMonitor()
+        for (URI uri : callerIndex.getCallers(EcoreUtil.getURI(object), monitor))
         {
-            @Override
-            public boolean isCanceled()
+            if (monitor.isCanceled())
             {
-                return super.isCanceled() || monitor.isCanceled();
+                return false;
             }
-        };
-
-        ResourceSet resourceSet = new ResourceSetImpl();
-        resourceSet.getLoadOptions().put(PERSISTED_DESCRIPTIONS, Boolean.TRUE);
-
-        IResourceDescriptions indexData = resourceDescriptionsProvider.getResourceDescriptions(resourceSet);
 
-        IReferenceFinder.Acceptor acceptor = new IReferenceFinder.Acceptor()
-        {
-            @Override
-            public void accept(EObject source, URI sourceUri, EReference eReference, int index, EObject targetOrProxy,
-                URI targetUri)
+            EObject obj = bmTransaction.getExternalObjectByUri(uri);
+            Method method = EcoreUtil2.getContainerOfType(obj, Method.class);
+            Environmental environmental = EcoreUtil2.getContainerOfType(method, Environmental.class);
+            if (environmental == null)
             {
-                if (subMonitor.isCanceled())
-                {
-                    return;
-                }
-
-                if (!sourceUri.path().equals(targetUri.path()))
-                {
-                    subMonitor.setCanceled(true);
-                }
+                return false;
             }
+            Environments environments = environmental.environments();
 
-            @Override
-            public void accept(IReferenceDescription description)
+            if (environments.contains(Environment.WEB_CLIENT) || environments.contains(Environment.MOBILE_CLIENT)
+                || environments.contains(Environment.THIN_CLIENT)
+                || environments.contains(Environment.MOBILE_THIN_CLIENT))
             {
-
-                if (subMonitor.isCanceled())
-                {
-                    return;
-                }
-
-                if (!description.getSourceEObjectUri().path().equals(description.getTargetEObjectUri().path()))
-                {
-                    uRIs.add(description.getSourceEObjectUri());
-                }
-            }
-        };
-
-        TargetURIs targetUris = new TargetURISet()
-        {
-            //
-        };
-
-        targetUris.addURI(EcoreUtil.getURI(object));
-
-        referenceFinder.findAllReferences(targetUris, workSpaceResourceAccess, indexData, acceptor, subMonitor);
-
-        if (!uRIs.isEmpty())
-        {
-            for (URI uri : uRIs)
-            {
-                EObject obj = bmTransaction.getExternalObjectByUri(uri);
-                Method method = EcoreUtil2.getContainerOfType(obj, Method.class);
-                Environmental environmental = EcoreUtil2.getContainerOfType(method, Environmental.class);
-                if (environmental == null)
-                {
-                    return false;
-                }
-                Environments environments = environmental.environments();
-
-                if (environments.contains(Environment.WEB_CLIENT) || environments.contains(Environment.MOBILE_CLIENT)
-                    || environments.contains(Environment.THIN_CLIENT)
-                    || environments.contains(Environment.MOBILE_THIN_CLIENT))
-                {
-                    clientCall = true;
-                    return clientCall;
-                }
+                return true;
             }
         }
-        return clientCall;
+        return false;
     }
 
     private final class FeatureChangeContextCollector
@@ -15,14 +15,11 @@ package com.e1c.v8codestyle.bsl.check;
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
 
 import java.text.MessageFormat;
-import java.util.Iterator;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.TerminalRule;
 import org.eclipse.xtext.nodemodel.ILeafNode;
-import org.eclipse.xtext.nodemodel.INode;
-import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 
 import com._1c.g5.v8.dt.bsl.model.Module;
 import com._1c.g5.v8.dt.bsl.services.BslGrammarAccess;
@@ -33,6 +30,8 @@ import com.e1c.g5.v8.dt.check.Issue;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex.LineBreaks;
 import com.google.inject.Inject;
 
 /**
@@ -44,7 +43,6 @@ public class ConsecutiveEmptyLinesCheck
     extends BasicCheck
 {
 
-    private static final String PATTERN = "(?<=\\n)"; //$NON-NLS-1$
     private static final String DEFAULT_NUMBER_OF_EMPTY_LINES = "1"; //$NON-NLS-1$
     private static final String NUMBER_OF_EMPTY_LINES = "numberOfEmptyLines"; //$NON-NLS-1$
     private static final String CHECK_ID = "module-consecutive-blank-lines"; //$NON-NLS-1$
@@ -88,55 +86,61 @@ public class ConsecutiveEmptyLinesCheck
         IProgressMonitor progressMonitor)
     {
         Module module = (Module)object;
-        INode node = NodeModelUtils.findActualNodeFor(module);
-        Iterator<ILeafNode> iterator = node.getLeafNodes().iterator();
+        ModuleLexicalIndex lexicalIndex = ModuleLexicalIndex.get(module);
+        if (lexicalIndex == null)
+        {
+            return;
+        }
 
         int numberAllowedLines = parameters.getInt(NUMBER_OF_EMPTY_LINES);
 
-        while (iterator.hasNext())
+        for (LineBreaks lineBreaks : lexicalIndex.getLineBreaks())
         {
-            ILeafNode leafNode = iterator.next();
-            if (leafNode.isHidden())
+            ILeafNode leafNode = lineBreaks.leafNode();
+            EObject grammarElement = leafNode.getGrammarElement();
+            if (!(grammarElement instanceof TerminalRule) || !grammarAccess.getWSRule().equals(grammarElement))
             {
-                EObject grammarElement = leafNode.getGrammarElement();
-                int startLine = leafNode.getStartLine();
-                int endLine = leafNode.getEndLine();
-                if (grammarElement instanceof TerminalRule && grammarAccess.getWSRule().equals(grammarElement)
-                    && (endLine - startLine - 1) > numberAllowedLines)
-                {
-                    String message = MessageFormat.format(
-                        Messages.ConsecutiveEmptyLines_Sequence_of_empty_lines_between__0__and__1__is_greator_than__2,
-                        startLine, endLine, numberAllowedLines);
-
-                    String[] lines = leafNode.getText().split(PATTERN);
-                    int headLength = getAllowedHeadLength(numberAllowedLines, lines);
-
-                    DirectLocation directLocation =
-                        new DirectLocation(
-                            leafNode.getOffset() + headLength,
-                            leafNode.getLength() - (headLength + getAllowedTailLength(lines)),
-                            startLine + numberAllowedLines + 1, module);
-
-                    Issue issue = new BslDirectLocationIssue(message, directLocation);
-
-                    resultAceptor.addIssue(issue);
-                }
+                continue;
+            }
+
+            int startLine = leafNode.getStartLine();
+            int endLine = leafNode.getEndLine();
+            if ((endLine - startLine - 1) > numberAllowedLines)
+            {
+                String message = MessageFormat.format(
+                    Messages.ConsecutiveEmptyLines_Sequence_of_empty_lines_between__0__and__1__is_greator_than__2,
+                    startLine, endLine, numberAllowedLines);
+
+                int headLength = getAllowedHeadLength(numberAllowedLines, lineBreaks);
+
+                DirectLocation directLocation =
+                    new DirectLocation(
+                        leafNode.getOffset() + headLength,
+                        leafNode.getLength() - (headLength + getAllowedTailLength(lineBreaks)),
+                        startLine + numberAllowedLines + 1, module);
+
+                Issue issue = new BslDirectLocationIssue(message, directLocation);
+
+                resultAceptor.addIssue(issue);
             }
         }
     }
 
-    private int getAllowedHeadLength(int number, String[] lines)
+    private int getAllowedHeadLength(int number, LineBreaks lineBreaks)
     {
-        int sum = 0;
-        for (int i = 0; i <= number; i++)
-        {
-            sum += lines[i].length();
-        }
-        return sum;
+        // length of allowed lines including their line breaks
+        return number < 0 ? 0 : lineBreaks.lineStarts()[number] - lineBreaks.offset();
     }
 
-    private int getAllowedTailLength(String[] lines)
+    private int getAllowedTailLength(LineBreaks lineBreaks)
     {
-        return lines[lines.length - 1].length();
+        // length of the last non-empty line of whitespaces
+        int[] lineStarts = lineBreaks.lineStarts();
+        int tailStart = lineStarts[lineStarts.length - 1];
+        if (tailStart == lineBreaks.endOffset())
+        {
+            tailStart = lineStarts.length > 1 ? lineStarts[lineStarts.length - 2] : lineBreaks.offset();
+        }
+        return lineBreaks.endOffset() - tailStart;
     }
 }
@@ -20,7 +20,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.EList;
@@ -55,6 +54,7 @@ import com.e1c.g5.v8.dt.check.CheckComplexity;
 import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.inject.Inject;
@@ -423,20 +423,12 @@ public class EventHandlerBooleanParamCheck
 
     private Set<String> getParamsToFalse(ICheckParameters parameters)
     {
-        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        String paramString = parameters.getString(PARAM_PARAMS_TO_FALSE);
-        Set<String> params = Set.of(paramString.replace(" ", "").split(DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
-        result.addAll(params);
-        return result;
+        return CheckParameterCache.getNameSet(parameters, PARAM_PARAMS_TO_FALSE);
     }
 
     private Set<String> getParamsToTrue(ICheckParameters parameters)
     {
-        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        String paramString = parameters.getString(PARAM_PARAMS_TO_TRUE);
-        Set<String> params = Set.of(paramString.replace(" ", "").split(DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
-        result.addAll(params);
-        return result;
+        return CheckParameterCache.getNameSet(parameters, PARAM_PARAMS_TO_TRUE);
     }
 
     private Map<CaseInsensitiveString, Event> getAllModuleEvents(Module module)
@@ -21,8 +21,6 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.emf.common.util.TreeIterator;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 
 import com._1c.g5.v8.dt.bsl.common.IBslPreferences;
@@ -42,6 +40,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.inject.Inject;
@@ -189,31 +188,27 @@ public final class ExportMethodInCommandFormModuleCheck
             return;
         }
 
-        for (TreeIterator<EObject> iterator = module.eAllContents(); iterator.hasNext();)
+        for (OperatorStyleCreator creator : ModuleFacts.getFacts(module).getAll(OperatorStyleCreator.class))
         {
             if (monitor.isCanceled())
             {
                 return;
             }
 
-            EObject containedObject = iterator.next();
-            if (containedObject instanceof OperatorStyleCreator)
+            String typeName = McoreUtil.getTypeName(creator.getType());
+            if (TYPE_NAME_OLD.equals(typeName) || TYPE_NAME.equals(typeName))
             {
-                String typeName = McoreUtil.getTypeName(((OperatorStyleCreator)containedObject).getType());
-                if (TYPE_NAME_OLD.equals(typeName) || TYPE_NAME.equals(typeName))
+                List<Expression> params = creator.getParams();
+                if (!params.isEmpty() && params.get(0) instanceof StringLiteral)
                 {
-                    List<Expression> params = ((OperatorStyleCreator)containedObject).getParams();
-                    if (!params.isEmpty() && params.get(0) instanceof StringLiteral)
+                    StringLiteral literal = (StringLiteral)params.get(0);
+                    List<String> lines = literal.lines(true);
+                    if (!lines.isEmpty())
                     {
-                        StringLiteral literal = (StringLiteral)params.get(0);
-                        List<String> lines = literal.lines(true);
-                        if (!lines.isEmpty())
+                        exportMethods.remove(lines.get(0));
+                        if (exportMethods.isEmpty())
                         {
-                            exportMethods.remove(lines.get(0));
-                            if (exportMethods.isEmpty())
-                            {
-                                return;
-                            }
+                            return;
                         }
                     }
                 }
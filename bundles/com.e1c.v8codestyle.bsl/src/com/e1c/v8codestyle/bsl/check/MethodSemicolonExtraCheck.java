@@ -32,6 +32,7 @@ import com.e1c.g5.v8.dt.check.Issue;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
@@ -86,13 +87,13 @@ public class MethodSemicolonExtraCheck
             }
             INode checkNode = node.getNextSibling();
 
-            if (checkNode == null)
+            ModuleLexicalIndex lexicalIndex = ModuleLexicalIndex.get(method);
+            if (checkNode == null || lexicalIndex == null)
             {
                 return;
             }
-            String checkText = checkNode.getText();
             INode checkNodeNext = checkNode.getNextSibling();
-            if (checkText.contains(";")) //$NON-NLS-1$
+            if (lexicalIndex.containsSemicolon(checkNode))
             {
 
                 DirectLocation directLocation = new DirectLocation(checkNode.getOffset(), checkNode.getLength(),
@@ -102,7 +103,7 @@ public class MethodSemicolonExtraCheck
 
                 resultAceptor.addIssue(issue);
             }
-            else if (checkNodeNext != null && checkNodeNext.getText().contains(";")) //$NON-NLS-1$
+            else if (checkNodeNext != null && lexicalIndex.containsSemicolon(checkNodeNext))
             {
                 DirectLocation directLocation = new DirectLocation(checkNodeNext.getOffset(), checkNodeNext.getLength(),
                     checkNodeNext.getStartLine(), allItems.get(0));
@@ -16,6 +16,7 @@ import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.METHOD;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.xtext.nodemodel.ILeafNode;
@@ -32,6 +33,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.common.collect.Lists;
@@ -136,6 +138,7 @@ public final class ModuleEmptyMethodCheck
 
     private boolean isExcludeName(String name, String excludeNamePattern)
     {
-        return StringUtils.isNotEmpty(excludeNamePattern) && name.matches(excludeNamePattern);
+        Pattern pattern = CheckParameterCache.getPattern(excludeNamePattern);
+        return pattern != null && pattern.matcher(name).matches();
     }
 }
@@ -46,6 +46,8 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.IModuleStructureProvider;
+import com.e1c.v8codestyle.bsl.ModuleStructureRegions;
 import com.e1c.v8codestyle.bsl.ModuleStructureSection;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
@@ -75,12 +77,16 @@ public class ModuleStructureEventFormRegionsCheck
 
     private final BslEventsService bslEventsService;
 
+    private final IModuleStructureProvider moduleStructureProvider;
+
     @Inject
-    public ModuleStructureEventFormRegionsCheck(IV8ProjectManager v8ProjectManager, BslEventsService bslEventsService)
+    public ModuleStructureEventFormRegionsCheck(IV8ProjectManager v8ProjectManager, BslEventsService bslEventsService,
+        IModuleStructureProvider moduleStructureProvider)
     {
         super();
         this.v8ProjectManager = v8ProjectManager;
         this.bslEventsService = bslEventsService;
+        this.moduleStructureProvider = moduleStructureProvider;
     }
 
     @Override
@@ -123,6 +129,8 @@ public class ModuleStructureEventFormRegionsCheck
         {
             return;
         }
+        ModuleStructureRegions structure =
+            moduleStructureProvider.getModuleStructure(ModuleType.FORM_MODULE, scriptVariant);
         EList<Method> methods = module.allMethods();
         Map<CaseInsensitiveString, List<EObject>> eventHandlers = bslEventsService.getEventHandlersContainer(module);
         for (Method method : methods)
@@ -152,7 +160,7 @@ public class ModuleStructureEventFormRegionsCheck
             List<EObject> containers = eventHandlers.get(new CaseInsensitiveString(methodName));
             if (containers == null)
             {
-                if (isEventHandlerRegion(scriptVariant, regionName))
+                if (structure.isEventHandlerRegion(regionName))
                 {
                     addIssueShouldNotBeInRegion(result, methodName, regionName, method);
                 }
@@ -293,16 +301,6 @@ public class ModuleStructureEventFormRegionsCheck
             methodName, regionName), method, NAMED_ELEMENT__NAME);
     }
 
-    private boolean isEventHandlerRegion(ScriptVariant scriptVariant, String regionName)
-    {
-        return ModuleStructureSection.FORM_HEADER_ITEMS_EVENT_HANDLERS.getName(scriptVariant)
-            .equalsIgnoreCase(regionName)
-            || ModuleStructureSection.FORM_COMMAND_EVENT_HANDLERS.getName(scriptVariant).equalsIgnoreCase(regionName)
-            || ModuleStructureSection.FORM_EVENT_HANDLERS.getName(scriptVariant).equalsIgnoreCase(regionName)
-            || regionName != null && regionName
-                .indexOf(ModuleStructureSection.FORM_TABLE_ITEMS_EVENT_HANDLERS.getName(scriptVariant)) != -1;
-    }
-
     private boolean isExcludeName(String name, String excludeNamePattern)
     {
         return StringUtils.isNotEmpty(excludeNamePattern) && name.matches(excludeNamePattern);
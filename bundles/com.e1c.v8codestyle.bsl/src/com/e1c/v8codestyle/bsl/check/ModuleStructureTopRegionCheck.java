@@ -16,10 +16,11 @@ import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
 import static com._1c.g5.v8.dt.mcore.McorePackage.Literals.NAMED_ELEMENT__NAME;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -36,6 +37,7 @@ import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
 import com.e1c.v8codestyle.bsl.IModuleStructureProvider;
+import com.e1c.v8codestyle.bsl.ModuleStructureRegions;
 import com.e1c.v8codestyle.bsl.ModuleStructureSection;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
@@ -119,28 +121,35 @@ public class ModuleStructureTopRegionCheck
         }
 
         ScriptVariant scriptVariant = v8ProjectManager.getProject(module).getScriptVariant();
-        Collection<String> names =
-            moduleStructureProvider.getModuleStructureRegions(module.getModuleType(), scriptVariant);
+        ModuleStructureRegions structure =
+            moduleStructureProvider.getModuleStructure(module.getModuleType(), scriptVariant);
 
-        check(resultAceptor, allRegions, names, parameters, scriptVariant, monitor);
+        check(resultAceptor, allRegions, structure, parameters, monitor);
 
     }
 
-    private void check(ResultAcceptor resultAceptor, List<RegionPreprocessor> allRegions, Collection<String> baseNames,
-        ICheckParameters parameters, ScriptVariant scriptVariant, IProgressMonitor monitor)
+    private void check(ResultAcceptor resultAceptor, List<RegionPreprocessor> allRegions,
+        ModuleStructureRegions structure, ICheckParameters parameters, IProgressMonitor monitor)
     {
 
         Map<String, List<RegionPreprocessor>> countRegions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         List<String> topRegions = new ArrayList<>();
         countDoublesAndFindTopRegions(allRegions, topRegions, countRegions);
-        LinkedList<String> baseOrdered = new LinkedList<>(baseNames);
+        Set<String> topRegionNames = new HashSet<>();
+        for (String topRegion : topRegions)
+        {
+            topRegionNames.add(topRegion.toLowerCase(Locale.ROOT));
+        }
 
+        ScriptVariant scriptVariant = structure.getScriptVariant();
         String tableName = ModuleStructureSection.FORM_TABLE_ITEMS_EVENT_HANDLERS.getName(scriptVariant);
         String commandName = ModuleStructureSection.FORM_COMMAND_EVENT_HANDLERS.getName(scriptVariant);
         String[] regionNames = parameters.getString(PARAMETER_EXCLUDE_REGION_LIST).split(","); //$NON-NLS-1$
 
         boolean checkDuplicates = parameters.getBoolean(CHECK_DUPLICATES_OF_STANDARD_REGIONS);
         boolean checkOrder = parameters.getBoolean(CHECK_ORDER_OF_STANDARD_REGIONS);
+        // position of the next expected standard region in the module structure
+        int position = 0;
         for (RegionPreprocessor region : allRegions)
         {
             if (monitor.isCanceled())
@@ -154,9 +163,8 @@ public class ModuleStructureTopRegionCheck
                 continue;
             }
 
-            boolean isStandard = baseNames.stream().anyMatch(regionName::equalsIgnoreCase)
-                || startsWithIgnoreCase(regionName, tableName);
-            boolean isTop = topRegions.stream().anyMatch(regionName::equalsIgnoreCase);
+            boolean isStandard = structure.contains(regionName) || startsWithIgnoreCase(regionName, tableName);
+            boolean isTop = topRegionNames.contains(regionName.toLowerCase(Locale.ROOT));
             boolean isDuplicate = countRegions.get(regionName).size() > 1;
 
             if (checkDuplicates && isStandard && isDuplicate)
@@ -169,15 +177,15 @@ public class ModuleStructureTopRegionCheck
                 addIssueTop(resultAceptor, region);
             }
 
-            if (isTop && baseNames.stream().noneMatch(regionName::equalsIgnoreCase)
-                && !startsWithIgnoreCase(regionName, tableName))
+            if (isTop && !isStandard)
             {
                 addIssueStandard(resultAceptor, region);
             }
 
             if (isTop && isStandard && checkOrder && !isDuplicate)
             {
-                addIssueOrder(resultAceptor, topRegions, baseOrdered, regionName, region, tableName, commandName);
+                position = addIssueOrder(resultAceptor, topRegions, structure, position, regionName, region,
+                    tableName, commandName);
             }
 
         }
@@ -197,58 +205,56 @@ public class ModuleStructureTopRegionCheck
         return str.regionMatches(ignoreCase, 0, prefix, 0, prefix.length());
     }
 
-    private void check(ResultAcceptor resultAceptor, RegionPreprocessor region, List<String> topRegions,
-        LinkedList<String> baseOrdered, String tableName, String commandName)
+    private int check(ResultAcceptor resultAceptor, RegionPreprocessor region, List<String> topRegions,
+        ModuleStructureRegions structure, int position, String tableName, String commandName)
     {
-        while (baseOrdered.peek() != null && !startsWithIgnoreCase(baseOrdered.peek(), tableName)
-            && !commandName.equalsIgnoreCase(baseOrdered.peek()))
+        // all form table regions are placed at the position of the table section
+        // and before the command section
+        List<String> names = structure.getNames();
+        for (int i = position; i < names.size(); i++)
         {
-            baseOrdered.poll();
+            String name = names.get(i);
+            if (startsWithIgnoreCase(name, tableName))
+            {
+                return i + 1;
+            }
+            else if (commandName.equalsIgnoreCase(name))
+            {
+                return i;
+            }
         }
 
-        if (baseOrdered.peek() != null && startsWithIgnoreCase(baseOrdered.peek(), tableName))
-        {
-            baseOrdered.poll();
-        }
-        else if (baseOrdered.isEmpty() && topRegions.size() > 1
-            || baseOrdered.peek() != null && !commandName.equalsIgnoreCase(baseOrdered.peek()))
+        if (topRegions.size() > 1)
         {
             resultAceptor.addIssue(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, region,
                 NAMED_ELEMENT__NAME);
         }
+        return names.size();
     }
 
-    private void check(ResultAcceptor resultAceptor, RegionPreprocessor region, LinkedList<String> baseOrdered,
-        String regionName)
+    private int check(ResultAcceptor resultAceptor, RegionPreprocessor region, ModuleStructureRegions structure,
+        int position, String regionName)
     {
-        while (baseOrdered.peek() != null && !regionName.equalsIgnoreCase(baseOrdered.peek()))
+        int index = structure.indexOf(regionName);
+        if (index >= position)
         {
-            baseOrdered.poll();
+            return index + 1;
         }
 
-        if (baseOrdered.peek() != null && regionName.equalsIgnoreCase(baseOrdered.peek()))
-        {
-            baseOrdered.poll();
-        }
-        else if (baseOrdered.isEmpty())
-        {
-            resultAceptor.addIssue(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, region,
-                NAMED_ELEMENT__NAME);
-        }
+        resultAceptor.addIssue(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, region,
+            NAMED_ELEMENT__NAME);
+        return structure.getNames().size();
     }
 
 
-    private void addIssueOrder(ResultAcceptor resultAceptor, List<String> topRegions, LinkedList<String> baseOrdered,
-        String regionName, RegionPreprocessor regionPreprocessor, String tableName, String commandName)
+    private int addIssueOrder(ResultAcceptor resultAceptor, List<String> topRegions, ModuleStructureRegions structure,
+        int position, String regionName, RegionPreprocessor regionPreprocessor, String tableName, String commandName)
     {
         if (startsWithIgnoreCase(regionName, tableName))
         {
-            check(resultAceptor, regionPreprocessor, topRegions, baseOrdered, tableName, commandName);
-        }
-        else
-        {
-            check(resultAceptor, regionPreprocessor, baseOrdered, regionName);
+            return check(resultAceptor, regionPreprocessor, topRegions, structure, position, tableName, commandName);
         }
+        return check(resultAceptor, regionPreprocessor, structure, position, regionName);
     }
 
     private void addIssueStandard(ResultAcceptor resultAceptor, RegionPreprocessor region)
@@ -17,6 +17,7 @@ import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
 import java.text.MessageFormat;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -33,12 +34,12 @@ import com._1c.g5.v8.dt.bsl.common.IModuleExtensionServiceProvider;
 import com._1c.g5.v8.dt.bsl.model.Method;
 import com._1c.g5.v8.dt.bsl.model.Module;
 import com._1c.g5.v8.dt.bsl.resource.BslResourceDescription;
-import com._1c.g5.v8.dt.common.StringUtils;
 import com._1c.g5.v8.dt.mcore.McorePackage;
 import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.common.collect.Lists;
@@ -106,14 +107,8 @@ public final class ModuleUnusedMethodCheck
             && !method.isExport() && !method.isEvent()
             && service.getSourceMethodNames(method).isEmpty() && !isExcludeName(method.getName(), excludeNamePattern);
 
-        // TODO - only full validation first, optimization later
-        //@formatter:off
-        //if (!((BslResource)module.eResource()).isOnlyMethodReparse())
-        //{
         Set<URI> usedMethods = getUsedMethods(progressMonitor, module.eResource());
         predicate = predicate.and(method -> !usedMethods.contains(EcoreUtil.getURI((EObject)method)));
-        //}
-        //@formatter:on
 
         module.allMethods()
             .stream()
@@ -136,6 +131,7 @@ public final class ModuleUnusedMethodCheck
 
     private boolean isExcludeName(String name, String excludeNamePattern)
     {
-        return StringUtils.isNotEmpty(excludeNamePattern) && name.matches(excludeNamePattern);
+        Pattern pattern = CheckParameterCache.getPattern(excludeNamePattern);
+        return pattern != null && pattern.matcher(name).matches();
     }
 }
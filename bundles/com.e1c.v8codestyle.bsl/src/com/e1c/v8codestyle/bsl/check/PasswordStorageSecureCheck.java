@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 
 import com._1c.g5.v8.dt.bsl.model.BooleanLiteral;
@@ -42,6 +43,7 @@ import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
@@ -186,8 +188,10 @@ public class PasswordStorageSecureCheck
         }
         for (Statement statement : statements)
         {
-            String statementText = NodeModelUtils.findActualNodeFor(statement).getText().toLowerCase();
-            if (statementText.contains(checkCall) || statementText.contains(checkCallEn))
+            ModuleLexicalIndex lexicalIndex = ModuleLexicalIndex.get(statement);
+            INode node = NodeModelUtils.findActualNodeFor(statement);
+            if (lexicalIndex != null && node != null && (lexicalIndex.containsIgnoreCase(node, checkCall)
+                || lexicalIndex.containsIgnoreCase(node, checkCallEn)))
             {
                 return true;
             }
@@ -16,11 +16,14 @@ import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.FEATURE_ACCESS__NAM
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -28,7 +31,6 @@ import java.util.TreeSet;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
@@ -46,13 +48,6 @@ import com._1c.g5.v8.dt.bsl.model.StaticFeatureAccess;
 import com._1c.g5.v8.dt.bsl.model.WhileStatement;
 import com._1c.g5.v8.dt.bsl.model.util.BslUtil;
 import com._1c.g5.v8.dt.bsl.resource.TypesComputer;
-import com._1c.g5.v8.dt.mcore.ContextDef;
-import com._1c.g5.v8.dt.mcore.Environmental;
-import com._1c.g5.v8.dt.mcore.McorePackage;
-import com._1c.g5.v8.dt.mcore.Type;
-import com._1c.g5.v8.dt.mcore.TypeItem;
-import com._1c.g5.v8.dt.mcore.util.McoreUtil;
-import com._1c.g5.v8.dt.platform.IEObjectProvider;
 import com._1c.g5.v8.dt.platform.IEObjectTypeNames;
 import com._1c.g5.v8.dt.platform.version.IRuntimeVersionSupport;
 import com._1c.g5.v8.dt.platform.version.Version;
@@ -61,6 +56,9 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ExpressionTypeNamesCache;
+import com.e1c.v8codestyle.bsl.IQueryExecutionMethodProvider;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.inject.Inject;
@@ -86,19 +84,24 @@ public class QueryInLoopCheck
 
     private final IRuntimeVersionSupport versionSupport;
 
+    private final IQueryExecutionMethodProvider queryExecutionMethodProvider;
+
     /**
      * Instantiates a new query in loop check.
      *
      * @param versionSupport - Version support for 1C:Enterprise projects service, cannot be {@code null}
      * @param typesComputer the types computer service, cannot be {@code null}
+     * @param queryExecutionMethodProvider the query execution method provider service, cannot be {@code null}
      */
     @Inject
-    public QueryInLoopCheck(IRuntimeVersionSupport versionSupport, TypesComputer typesComputer)
+    public QueryInLoopCheck(IRuntimeVersionSupport versionSupport, TypesComputer typesComputer,
+        IQueryExecutionMethodProvider queryExecutionMethodProvider)
     {
         super();
 
         this.typesComputer = typesComputer;
         this.versionSupport = versionSupport;
+        this.queryExecutionMethodProvider = queryExecutionMethodProvider;
     }
 
     @Override
@@ -141,15 +144,19 @@ public class QueryInLoopCheck
             return;
         }
 
-        Map<String, String> methodsWithQuery = getMethodsWithQuery(module, queryExecutionMethods, monitor);
+        // types of the same expressions are computed by the scan of methods with query, by the scan of loops
+        // and by other checks of the module
+        ExpressionTypeNamesCache typeNamesCache = ExpressionTypeNamesCache.get(module, typesComputer);
+        Map<String, String> methodsWithQuery =
+            getMethodsWithQuery(module, queryExecutionMethods, typeNamesCache, monitor);
         if (methodsWithQuery.isEmpty())
         {
             return;
         }
 
         boolean checkQueryInInfiniteLoop = parameters.getBoolean(PARAM_CHECK_QUERIY_IN_INFINITE_LOOP);
-        Collection<FeatureAccess> queryInLoopCallers =
-            getQueryInLoopCallers(module, methodsWithQuery, queryExecutionMethods, checkQueryInInfiniteLoop, monitor);
+        Collection<FeatureAccess> queryInLoopCallers = getQueryInLoopCallers(module, methodsWithQuery,
+            queryExecutionMethods, typeNamesCache, checkQueryInInfiniteLoop, monitor);
 
         for (FeatureAccess featureAccess : queryInLoopCallers)
         {
@@ -177,71 +184,22 @@ public class QueryInLoopCheck
 
     private Set<String> getQueryExecutionMethods(EObject object)
     {
-        Set<String> queryExecuteMethods = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-
-        IEObjectProvider provider = IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.TYPE_ITEM,
-            versionSupport.getRuntimeVersionOrDefault(object, Version.LATEST));
-        EObject proxyType = provider.getProxy(IEObjectTypeNames.QUERY);
-        if (!(proxyType instanceof Type))
-        {
-            return queryExecuteMethods;
-        }
-
-        Type queryType = (Type)EcoreUtil.resolve(proxyType, object);
-
-        ContextDef contextDef = queryType.getContextDef();
-        if (contextDef == null)
-        {
-            return queryExecuteMethods;
-        }
-
-        EList<com._1c.g5.v8.dt.mcore.Method> queryMethods = contextDef.allMethods();
-        for (com._1c.g5.v8.dt.mcore.Method queryMethod : queryMethods)
-        {
-            if (!queryMethod.getName().startsWith("Execute")) //$NON-NLS-1$
-            {
-                continue;
-            }
-
-            queryExecuteMethods.add(queryMethod.getName());
-            queryExecuteMethods.add(queryMethod.getNameRu());
-        }
-
-        return queryExecuteMethods;
+        Version version = versionSupport.getRuntimeVersionOrDefault(object, Version.LATEST);
+        return queryExecutionMethodProvider.getQueryExecutionMethodNames(version);
     }
 
-    private boolean isQueryTypeSource(Expression source)
+    private boolean isQueryTypeSource(Expression source, ExpressionTypeNamesCache typeNamesCache)
     {
-
-        Environmental envs = EcoreUtil2.getContainerOfType(source, Environmental.class);
-        if (envs == null)
-        {
-            return false;
-        }
-
-        List<TypeItem> sourceTypes = typesComputer.computeTypes(source, envs.environments());
-        if (sourceTypes.isEmpty())
-        {
-            return false;
-        }
-
-        for (TypeItem sourceType : sourceTypes)
-        {
-            if (IEObjectTypeNames.QUERY.equals(McoreUtil.getTypeName(sourceType)))
-            {
-                return true;
-            }
-        }
-
-        return false;
+        return typeNamesCache.getTypeNames(source).contains(IEObjectTypeNames.QUERY);
     }
 
-    private boolean isQueryExecution(DynamicFeatureAccess dfa, Set<String> queryExecutionMethods)
+    private boolean isQueryExecution(DynamicFeatureAccess dfa, Set<String> queryExecutionMethods,
+        ExpressionTypeNamesCache typeNamesCache)
     {
         String methodName = dfa.getName();
 
         return methodName != null && queryExecutionMethods.contains(methodName) && BslUtil.getInvocation(dfa) != null
-            && isQueryTypeSource(dfa.getSource());
+            && isQueryTypeSource(dfa.getSource(), typeNamesCache);
     }
 
     private String getSourceName(Expression source)
@@ -267,42 +225,19 @@ public class QueryInLoopCheck
         return MessageFormat.format("'{'{0}'}' ", String.valueOf(node.getStartLine())); //$NON-NLS-1$
     }
 
-    private String getMethodPath(Method method, Map<String, String> result)
-    {
-        if (result.containsKey(method.getName()))
-        {
-            return null;
-        }
-
-        StaticFeatureAccess calledMethod = getMethodWithQuery(method, result);
-        if (calledMethod == null)
-        {
-            return null;
-        }
-
-        String calledMethodPath = result.get(calledMethod.getName());
-        if (calledMethodPath == null)
-        {
-            calledMethodPath = calledMethod.getName() + "()"; //$NON-NLS-1$
-        }
-
-        return String.join("", method.getName(), "() -> ", //$NON-NLS-1$ //$NON-NLS-2$
-            getPositionForFeatureObject(calledMethod), calledMethodPath);
-    }
-
     private Map<String, String> getQueryExecutionMethodsPath(Module module, Set<String> queryExecutionMethods,
-        IProgressMonitor monitor)
+        ExpressionTypeNamesCache typeNamesCache, IProgressMonitor monitor)
     {
         Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
-        for (DynamicFeatureAccess dfa : EcoreUtil2.eAllOfType(module, DynamicFeatureAccess.class))
+        for (DynamicFeatureAccess dfa : ModuleFacts.getFacts(module).getAll(DynamicFeatureAccess.class))
         {
             if (monitor.isCanceled())
             {
                 return Collections.emptyMap();
             }
 
-            if (!isQueryExecution(dfa, queryExecutionMethods))
+            if (!isQueryExecution(dfa, queryExecutionMethods, typeNamesCache))
             {
                 continue;
             }
@@ -324,34 +259,65 @@ public class QueryInLoopCheck
     }
 
     private Map<String, String> getMethodsWithQuery(Module module, Set<String> queryExecutionMethods,
-        IProgressMonitor monitor)
+        ExpressionTypeNamesCache typeNamesCache, IProgressMonitor monitor)
     {
-        Map<String, String> result = getQueryExecutionMethodsPath(module, queryExecutionMethods, monitor);
+        Map<String, String> result =
+            getQueryExecutionMethodsPath(module, queryExecutionMethods, typeNamesCache, monitor);
         if (result.isEmpty())
         {
             return Collections.emptyMap();
         }
 
+        // reverse call graph: called method name to its call sites in declaration order of callers
+        ModuleFacts facts = ModuleFacts.getFacts(module);
+        Set<String> methodNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         EList<Method> methods = module.allMethods();
+        methods.stream().map(Method::getName).filter(Objects::nonNull).forEach(methodNames::add);
 
-        int methodsCount = 0;
-        while (result.size() != methodsCount)
+        Map<String, List<CallSite>> callers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Method method : methods)
         {
-            for (Method method : methods)
+            if (monitor.isCanceled())
             {
-                if (monitor.isCanceled())
+                return Collections.emptyMap();
+            }
+            else if (method.getName() == null)
+            {
+                continue;
+            }
+
+            for (StaticFeatureAccess sfa : facts.getAll(method, StaticFeatureAccess.class))
+            {
+                if (sfa.getName() != null && methodNames.contains(sfa.getName())
+                    && BslUtil.getInvocation(sfa) != null)
                 {
-                    return Collections.emptyMap();
+                    callers.computeIfAbsent(sfa.getName(), n -> new ArrayList<>()).add(new CallSite(method, sfa));
                 }
+            }
+        }
 
-                String methodPath = getMethodPath(method, result);
-                if (methodPath != null)
+        // single breadth-first search from methods with query over callers, each call site is visited once,
+        // the path of the method goes via the call site that discovered the method first
+        Deque<String> queue = new ArrayDeque<>(result.keySet());
+        while (!queue.isEmpty())
+        {
+            if (monitor.isCanceled())
+            {
+                return Collections.emptyMap();
+            }
+
+            String calledMethodName = queue.poll();
+            String calledMethodPath = result.get(calledMethodName);
+            for (CallSite callSite : callers.getOrDefault(calledMethodName, List.of()))
+            {
+                String methodName = callSite.method().getName();
+                if (!result.containsKey(methodName))
                 {
-                    result.put(method.getName(), methodPath);
+                    result.put(methodName, String.join("", methodName, "() -> ", //$NON-NLS-1$ //$NON-NLS-2$
+                        getPositionForFeatureObject(callSite.calledMethod()), calledMethodPath));
+                    queue.add(methodName);
                 }
             }
-
-            methodsCount = result.size();
         }
 
         return result;
@@ -362,19 +328,6 @@ public class QueryInLoopCheck
         return methodsWithQuery.containsKey(sfa.getName()) && BslUtil.getInvocation(sfa) != null;
     }
 
-    private StaticFeatureAccess getMethodWithQuery(Method method, Map<String, String> methodsWithQuery)
-    {
-        for (StaticFeatureAccess sfa : EcoreUtil2.eAllOfType(method, StaticFeatureAccess.class))
-        {
-            if (isMethodWithQueryCalled(sfa, methodsWithQuery))
-            {
-                return sfa;
-            }
-        }
-
-        return null;
-    }
-
     private boolean isInfiniteWhileLoop(LoopStatement loopStatement)
     {
         if (!(loopStatement instanceof WhileStatement))
@@ -387,7 +340,8 @@ public class QueryInLoopCheck
     }
 
     private Collection<FeatureAccess> getQueryInLoopFeatures(LoopStatement loopStatement,
-        Map<String, String> methodsWithQuery, Set<String> queryExecutionMethods)
+        Map<String, String> methodsWithQuery, Set<String> queryExecutionMethods,
+        ExpressionTypeNamesCache typeNamesCache)
     {
         Collection<FeatureAccess> result = new ArrayList<>();
 
@@ -398,7 +352,8 @@ public class QueryInLoopCheck
                 if (featureAccess instanceof StaticFeatureAccess
                     && isMethodWithQueryCalled((StaticFeatureAccess)featureAccess, methodsWithQuery)
                     || featureAccess instanceof DynamicFeatureAccess
-                        && isQueryExecution((DynamicFeatureAccess)featureAccess, queryExecutionMethods))
+                        && isQueryExecution((DynamicFeatureAccess)featureAccess, queryExecutionMethods,
+                            typeNamesCache))
                 {
                     result.add(featureAccess);
                 }
@@ -409,11 +364,12 @@ public class QueryInLoopCheck
     }
 
     private Collection<FeatureAccess> getQueryInLoopCallers(Module module, Map<String, String> methodsWithQuery,
-        Set<String> queryExecutionMethods, boolean checkQueryInInfiniteLoop, IProgressMonitor monitor)
+        Set<String> queryExecutionMethods, ExpressionTypeNamesCache typeNamesCache, boolean checkQueryInInfiniteLoop,
+        IProgressMonitor monitor)
     {
         Collection<FeatureAccess> result = new ArrayList<>();
 
-        for (LoopStatement loopStatement : EcoreUtil2.eAllOfType(module, LoopStatement.class))
+        for (LoopStatement loopStatement : ModuleFacts.getFacts(module).getAll(LoopStatement.class))
         {
             if (monitor.isCanceled())
             {
@@ -425,10 +381,15 @@ public class QueryInLoopCheck
                 continue;
             }
 
-            result.addAll(getQueryInLoopFeatures(loopStatement, methodsWithQuery, queryExecutionMethods));
+            result.addAll(
+                getQueryInLoopFeatures(loopStatement, methodsWithQuery, queryExecutionMethods, typeNamesCache));
         }
 
         return result;
     }
 
+    private record CallSite(Method method, StaticFeatureAccess calledMethod)
+    {
+    }
+
 }
@@ -13,35 +13,17 @@
 package com.e1c.v8codestyle.bsl.check;
 
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.METHOD;
-import static org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider.PERSISTED_DESCRIPTIONS;
 
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
-import org.eclipse.emf.common.util.TreeIterator;
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.EReference;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
-import org.eclipse.xtext.findReferences.IReferenceFinder;
-import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess;
-import org.eclipse.xtext.findReferences.TargetURISet;
-import org.eclipse.xtext.findReferences.TargetURIs;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
 import org.eclipse.xtext.naming.QualifiedName;
-import org.eclipse.xtext.resource.IEObjectDescription;
-import org.eclipse.xtext.resource.IReferenceDescription;
-import org.eclipse.xtext.resource.IResourceDescriptions;
-import org.eclipse.xtext.resource.IResourceDescriptionsProvider;
-import org.eclipse.xtext.scoping.IScope;
-import org.eclipse.xtext.scoping.IScopeProvider;
 
 import com._1c.g5.v8.dt.bsl.model.BslPackage;
 import com._1c.g5.v8.dt.bsl.model.Expression;
@@ -51,14 +33,17 @@ import com._1c.g5.v8.dt.bsl.model.ModuleType;
 import com._1c.g5.v8.dt.bsl.model.OperatorStyleCreator;
 import com._1c.g5.v8.dt.bsl.model.RegionPreprocessor;
 import com._1c.g5.v8.dt.bsl.model.StringLiteral;
-import com._1c.g5.v8.dt.common.StringUtils;
+import com._1c.g5.v8.dt.core.platform.IResourceLookup;
 import com._1c.g5.v8.dt.mcore.util.McoreUtil;
-import com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage;
 import com.e1c.g5.v8.dt.check.CheckComplexity;
 import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.IExportMethodCallerIndex;
+import com.e1c.v8codestyle.bsl.IMdHandlerMethodIndex;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
 import com.e1c.v8codestyle.bsl.ModuleStructureSection;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.google.inject.Inject;
 
 /**
@@ -71,8 +56,6 @@ public final class RedundantExportMethodCheck
     extends AbstractModuleStructureCheck
 {
 
-    private static final String USER_DATA = "methodName"; //$NON-NLS-1$
-
     private static final String DEFAULT_EXCLUDE_REGION_NAME_LIST =
         String.join(",", ModuleStructureSection.PUBLIC.getNames()); //$NON-NLS-1$
 
@@ -83,26 +66,22 @@ public final class RedundantExportMethodCheck
     private static final String TYPE_NAME_OLD = "NotifyDescription"; //$NON-NLS-1$
     private static final String TYPE_NAME = "CallbackDescription"; //$NON-NLS-1$
 
-    private final IReferenceFinder referenceFinder;
+    private final IExportMethodCallerIndex callerIndex;
 
-    private final IResourceAccess workSpaceResourceAccess;
+    private final IMdHandlerMethodIndex handlerIndex;
 
-    private final IResourceDescriptionsProvider resourceDescriptionsProvider;
+    private final IResourceLookup resourceLookup;
 
     private final IQualifiedNameProvider bslQualifiedNameProvider;
 
-    private final IScopeProvider scopeProvider;
-
     @Inject
-    public RedundantExportMethodCheck(IResourceAccess workSpaceResourceAccess, IReferenceFinder referenceFinder,
-        IResourceDescriptionsProvider resourceDescriptionsProvider, IQualifiedNameProvider bslQualifiedNameProvider,
-        IScopeProvider scopeProvider)
+    public RedundantExportMethodCheck(IExportMethodCallerIndex callerIndex, IMdHandlerMethodIndex handlerIndex,
+        IResourceLookup resourceLookup, IQualifiedNameProvider bslQualifiedNameProvider)
     {
-        this.workSpaceResourceAccess = workSpaceResourceAccess;
-        this.referenceFinder = referenceFinder;
-        this.resourceDescriptionsProvider = resourceDescriptionsProvider;
+        this.callerIndex = callerIndex;
+        this.handlerIndex = handlerIndex;
+        this.resourceLookup = resourceLookup;
         this.bslQualifiedNameProvider = bslQualifiedNameProvider;
-        this.scopeProvider = scopeProvider;
     }
 
     @Override
@@ -176,26 +155,16 @@ public final class RedundantExportMethodCheck
         QualifiedName fullyQualifiedName = bslQualifiedNameProvider.getFullyQualifiedName(module);
         if (fullyQualifiedName != null)
         {
-            String moduleName = fullyQualifiedName.skipLast(1).toString();
-            String moduleMethodName = String.join(".", moduleName, methodName); //$NON-NLS-1$
-
-            IScope jobs = scopeProvider.getScope(module, MdClassPackage.Literals.CONFIGURATION__SCHEDULED_JOBS);
-            for (IEObjectDescription item : jobs.getAllElements())
+            if (monitor.isCanceled())
             {
-                if (monitor.isCanceled() || moduleMethodName.equalsIgnoreCase(item.getUserData(USER_DATA)))
-                {
-                    return true;
-                }
+                return true;
             }
 
-            IScope events = scopeProvider.getScope(module, MdClassPackage.Literals.CONFIGURATION__EVENT_SUBSCRIPTIONS);
-            for (IEObjectDescription item : events.getAllElements())
-            {
-                if (monitor.isCanceled() || moduleMethodName.equalsIgnoreCase(item.getUserData(USER_DATA)))
-                {
-                    return true;
-                }
-            }
+            String moduleName = fullyQualifiedName.skipLast(1).toString();
+            String moduleMethodName = String.join(".", moduleName, methodName); //$NON-NLS-1$
+
+            IProject project = resourceLookup.getProject(module);
+            return project != null && handlerIndex.isScheduledJobOrEventSubscriptionHandler(project, moduleMethodName);
         }
 
         return false;
@@ -203,28 +172,24 @@ public final class RedundantExportMethodCheck
 
     private boolean existLocalNotifyDescription(Module module, String name, IProgressMonitor monitor)
     {
-        for (TreeIterator<EObject> iterator = module.eAllContents(); iterator.hasNext();)
+        for (OperatorStyleCreator creator : ModuleFacts.getFacts(module).getAll(OperatorStyleCreator.class))
         {
             if (monitor.isCanceled())
             {
                 return true;
             }
 
-            EObject containedObject = iterator.next();
-            if (containedObject instanceof OperatorStyleCreator)
+            String typeName = McoreUtil.getTypeName(creator.getType());
+            if (TYPE_NAME_OLD.equals(typeName) || TYPE_NAME.equals(typeName))
             {
-                String typeName = McoreUtil.getTypeName(((OperatorStyleCreator)containedObject).getType());
-                if (TYPE_NAME_OLD.equals(typeName) || TYPE_NAME.equals(typeName))
+                List<Expression> params = creator.getParams();
+                if (!params.isEmpty() && params.get(0) instanceof StringLiteral)
                 {
-                    List<Expression> params = ((OperatorStyleCreator)containedObject).getParams();
-                    if (!params.isEmpty() && params.get(0) instanceof StringLiteral)
+                    StringLiteral literal = (StringLiteral)params.get(0);
+                    List<String> lines = literal.lines(true);
+                    if (!lines.isEmpty() && lines.get(0).equals(name))
                     {
-                        StringLiteral literal = (StringLiteral)params.get(0);
-                        List<String> lines = literal.lines(true);
-                        if (!lines.isEmpty() && lines.get(0).equals(name))
-                        {
-                            return true;
-                        }
+                        return true;
                     }
                 }
             }
@@ -235,64 +200,11 @@ public final class RedundantExportMethodCheck
 
     private boolean haveCallerInOtherModule(Method object, IProgressMonitor monitor)
     {
-        IProgressMonitor subMonitor = new NullProgressMonitor()
-        {
-            @Override
-            public boolean isCanceled()
-            {
-                return super.isCanceled() || monitor.isCanceled();
-            }
-        };
-
-        ResourceSet resourceSet = new ResourceSetImpl();
-        //special ResourceSet for checking by saved modules
-        resourceSet.getLoadOptions().put(PERSISTED_DESCRIPTIONS, Boolean.TRUE);
-
-        IResourceDescriptions indexData = resourceDescriptionsProvider.getResourceDescriptions(resourceSet);
-
-        IReferenceFinder.Acceptor acceptor = new IReferenceFinder.Acceptor()
-        {
-
-            @Override
-            public void accept(EObject source, URI sourceUri, EReference eReference, int index, EObject targetOrProxy,
-                URI targetUri)
-            {
-                if (subMonitor.isCanceled())
-                {
-                    return;
-                }
-
-                if (!sourceUri.path().equals(targetUri.path()))
-                {
-                    subMonitor.setCanceled(true);
-                }
-            }
-
-            @Override
-            public void accept(IReferenceDescription description)
-            {
-                if (subMonitor.isCanceled())
-                {
-                    return;
-                }
-
-                if (!description.getSourceEObjectUri().path().equals(description.getTargetEObjectUri().path()))
-                {
-                    subMonitor.setCanceled(true);
-                }
-            }
-        };
-
-        TargetURIs targetUris = new TargetURISet()
+        if (monitor.isCanceled())
         {
-            //
-        };
-
-        targetUris.addURI(EcoreUtil.getURI(object));
-
-        referenceFinder.findAllReferences(targetUris, workSpaceResourceAccess, indexData, acceptor, subMonitor);
-
-        return subMonitor.isCanceled();
+            return true;
+        }
+        return callerIndex.hasCallerInOtherModule(EcoreUtil.getURI(object), monitor);
     }
 
     private boolean isNotExclusion(ICheckParameters parameters, Method method, IProgressMonitor monitor)
@@ -300,22 +212,9 @@ public final class RedundantExportMethodCheck
         Optional<RegionPreprocessor> region = getTopParentRegion(method);
         if (region.isPresent())
         {
-            String names = parameters.getString(PARAMETER_EXCLUDE_REGION_LIST);
-            if (names != null)
-            {
-                Set<String> set = Set.of(names.split(",")); //$NON-NLS-1$
-                for (String name : set)
-                {
-                    if (monitor.isCanceled())
-                    {
-                        return false;
-                    }
-                    if (StringUtils.equals(name, region.get().getName()))
-                    {
-                        return false;
-                    }
-                }
-            }
+            String regionName = region.get().getName();
+            return !monitor.isCanceled() && (regionName == null
+                || !CheckParameterCache.getNameSet(parameters, PARAMETER_EXCLUDE_REGION_LIST).contains(regionName));
         }
         return true;
     }
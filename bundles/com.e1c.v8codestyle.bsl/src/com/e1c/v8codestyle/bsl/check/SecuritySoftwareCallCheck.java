@@ -15,9 +15,11 @@ package com.e1c.v8codestyle.bsl.check;
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.SIMPLE_STATEMENT;
 
 import java.util.List;
+import java.util.Locale;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 
 import com._1c.g5.v8.dt.bsl.model.Expression;
@@ -36,6 +38,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
@@ -119,6 +122,12 @@ public class SecuritySoftwareCallCheck
 
     private boolean checkSting(Method method, String nameCall)
     {
+        ModuleLexicalIndex lexicalIndex = ModuleLexicalIndex.get(method);
+        if (lexicalIndex == null)
+        {
+            return false;
+        }
+        String lowerCaseNameCall = nameCall.toLowerCase(Locale.ROOT);
         List<Statement> statements = method.allStatements();
         for (Statement statement : statements)
         {
@@ -126,9 +135,9 @@ public class SecuritySoftwareCallCheck
             {
                 if (simpleStatement.getRight() instanceof NumberLiteral right)
                 {
-                    String textInv = NodeModelUtils.findActualNodeFor(simpleStatement).getText();
-                    if (textInv.toLowerCase().contains(nameCall.toLowerCase())
-                        && textInv.toLowerCase().contains("automationsecurity")) //$NON-NLS-1$
+                    INode node = NodeModelUtils.findActualNodeFor(simpleStatement);
+                    if (node != null && lexicalIndex.containsIgnoreCase(node, lowerCaseNameCall)
+                        && lexicalIndex.containsIgnoreCase(node, "automationsecurity")) //$NON-NLS-1$
                     {
                         List<String> values = right.getValue();
                         for (String value : values)
@@ -142,9 +151,9 @@ public class SecuritySoftwareCallCheck
                 }
                 else if (simpleStatement.getLeft() instanceof Invocation left)
                 {
-                    String textInv = NodeModelUtils.findActualNodeFor(left).getText();
-                    if (textInv.toLowerCase().contains(nameCall.toLowerCase())
-                        && textInv.toLowerCase().contains("disableautomacros")) //$NON-NLS-1$
+                    INode node = NodeModelUtils.findActualNodeFor(left);
+                    if (node != null && lexicalIndex.containsIgnoreCase(node, lowerCaseNameCall)
+                        && lexicalIndex.containsIgnoreCase(node, "disableautomacros")) //$NON-NLS-1$
                     {
                         if (left.getParams().size() == 1 && left.getParams().get(0) instanceof NumberLiteral number)
                         {
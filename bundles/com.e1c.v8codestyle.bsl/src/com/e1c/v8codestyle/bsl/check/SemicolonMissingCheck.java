@@ -42,6 +42,7 @@ import com.e1c.g5.v8.dt.check.Issue;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
 import com.e1c.v8codestyle.check.CommonSenseCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
@@ -55,8 +56,6 @@ public class SemicolonMissingCheck
 {
     private static final String CHECK_ID = "semicolon-missing"; //$NON-NLS-1$
 
-    private static String charSemicolon = ";"; //$NON-NLS-1$
-
     @Override
     public String getCheckId()
     {
@@ -88,6 +87,11 @@ public class SemicolonMissingCheck
         {
             return;
         }
+        ModuleLexicalIndex lexicalIndex = ModuleLexicalIndex.get(method);
+        if (lexicalIndex == null)
+        {
+            return;
+        }
         for (Statement statement : allItems)
         {
             if (!(statement instanceof EmptyStatement))
@@ -103,7 +107,7 @@ public class SemicolonMissingCheck
                     resolveAddIssue(node, statement, resultAcceptor);
                     continue;
                 }
-                if (!checkNode.getText().contains(charSemicolon))
+                if (!lexicalIndex.containsSemicolon(checkNode))
                 {
                     INode checkNextNode = checkNode.getNextSibling();
                     if (checkNextNode == null)
@@ -111,20 +115,21 @@ public class SemicolonMissingCheck
                         resolveAddIssue(node, statement, resultAcceptor);
                         continue;
                     }
-                    if (!checkNextNode.getText().contains(charSemicolon))
+                    if (!lexicalIndex.containsSemicolon(checkNextNode))
                     {
                         resolveAddIssue(node, statement, resultAcceptor);
                     }
                 }
                 if (!statement.eContents().isEmpty())
                 {
-                    checkSemicolon(statement.eContents(), resultAcceptor);
+                    checkSemicolon(statement.eContents(), lexicalIndex, resultAcceptor);
                 }
             }
         }
     }
 
-    private void checkSemicolon(List<EObject> eObjects, ResultAcceptor resultAcceptor)
+    private void checkSemicolon(List<EObject> eObjects, ModuleLexicalIndex lexicalIndex,
+        ResultAcceptor resultAcceptor)
     {
         if (eObjects.isEmpty())
         {
@@ -149,19 +154,17 @@ public class SemicolonMissingCheck
                     {
                         continue;
                     }
-                    String checkText = lastNode.getText();
-                    String nodeText = node.getText();
-                    if (!checkText.contains(charSemicolon) && !nodeText.isEmpty())
+                    if (!lexicalIndex.containsSemicolon(lastNode) && node.getTotalLength() > 0)
                     {
-                        if (checkText.toLowerCase().contains("#endregion") //$NON-NLS-1$
-                            || checkText.toLowerCase().contains("#конецобласти")) //$NON-NLS-1$
+                        if (lexicalIndex.containsIgnoreCase(lastNode, "#endregion") //$NON-NLS-1$
+                            || lexicalIndex.containsIgnoreCase(lastNode, "#конецобласти")) //$NON-NLS-1$
                         {
-                            checkSemicolon(eObject.eContents(), resultAcceptor);
+                            checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
                         }
-                        else if (checkText.toLowerCase().contains("#endif") //$NON-NLS-1$
-                            || checkText.toLowerCase().contains("#конецесли")) //$NON-NLS-1$
+                        else if (lexicalIndex.containsIgnoreCase(lastNode, "#endif") //$NON-NLS-1$
+                            || lexicalIndex.containsIgnoreCase(lastNode, "#конецесли")) //$NON-NLS-1$
                         {
-                            checkSemicolon(eObject.eContents(), resultAcceptor);
+                            checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
                         }
                         else if (eObject.eContents().isEmpty())
                         {
@@ -171,7 +174,7 @@ public class SemicolonMissingCheck
                 }
                 if (eObject != null)
                 {
-                    checkSemicolon(eObject.eContents(), resultAcceptor);
+                    checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
                 }
             }
             else if (eObject instanceof EmptyStatement)
@@ -180,7 +183,7 @@ public class SemicolonMissingCheck
             }
             else if (eObject instanceof IfPreprocessorStatement)
             {
-                checkSemicolon(eObject.eContents(), resultAcceptor);
+                checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
             }
             else if (eObject.eContainingFeature().isMany() && eObject.eContainer() != null
                 && eObject.eContainer().eGet(eObject.eContainingFeature()) instanceof List<?> statementCollection)
@@ -188,13 +191,14 @@ public class SemicolonMissingCheck
                 if (!statementCollection.isEmpty()
                     && statementCollection.get(statementCollection.size() - 1) == eObject)
                 {
-                    checkLastStatement(eObject, resultAcceptor);
+                    checkLastStatement(eObject, lexicalIndex, resultAcceptor);
                 }
             }
         }
     }
 
-    private void checkLastStatement(EObject eObject, ResultAcceptor resultAcceptor)
+    private void checkLastStatement(EObject eObject, ModuleLexicalIndex lexicalIndex,
+        ResultAcceptor resultAcceptor)
     {
         INode node = NodeModelUtils.findActualNodeFor(eObject);
         if (node == null)
@@ -206,14 +210,13 @@ public class SemicolonMissingCheck
             INode checkNode = node.getNextSibling();
             if (checkNode == null)
             {
-                String nodeText = node.getText();
-                if (!nodeText.contains(charSemicolon) && !nodeText.isEmpty())
+                if (!lexicalIndex.containsSemicolon(node) && node.getTotalLength() > 0)
                 {
                     resolveAddIssue(node, eObject, resultAcceptor);
                 }
                 return;
             }
-            if (!checkNode.getText().contains(charSemicolon))
+            if (!lexicalIndex.containsSemicolon(checkNode))
             {
                 INode checkNextNode = checkNode.getNextSibling();
                 if (checkNextNode == null)
@@ -221,7 +224,7 @@ public class SemicolonMissingCheck
                     resolveAddIssue(node, eObject, resultAcceptor);
                     return;
                 }
-                if (!checkNextNode.getText().contains(charSemicolon))
+                if (!lexicalIndex.containsSemicolon(checkNextNode))
                 {
                     resolveAddIssue(node, eObject, resultAcceptor);
                 }
@@ -235,7 +238,7 @@ public class SemicolonMissingCheck
                 resolveAddIssue(node, eObject, resultAcceptor);
                 return;
             }
-            if (!checkNode.getText().contains(charSemicolon))
+            if (!lexicalIndex.containsSemicolon(checkNode))
             {
                 INode checkNextNode = checkNode.getNextSibling();
                 if (checkNextNode == null)
@@ -243,12 +246,12 @@ public class SemicolonMissingCheck
                     resolveAddIssue(node, eObject, resultAcceptor);
                     return;
                 }
-                if (!checkNextNode.getText().contains(charSemicolon))
+                if (!lexicalIndex.containsSemicolon(checkNextNode))
                 {
                     resolveAddIssue(node, eObject, resultAcceptor);
                 }
             }
-            checkSemicolon(eObject.eContents(), resultAcceptor);
+            checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
         }
         else if (eObject instanceof Statement)
         {
@@ -261,7 +264,7 @@ public class SemicolonMissingCheck
                 }
                 return;
             }
-            if (!checkNode.getText().contains(charSemicolon))
+            if (!lexicalIndex.containsSemicolon(checkNode))
             {
                 INode checkNextNode = checkNode.getNextSibling();
                 if (checkNextNode == null)
@@ -269,14 +272,14 @@ public class SemicolonMissingCheck
                     resolveAddIssue(node, eObject, resultAcceptor);
                     return;
                 }
-                if (!checkNextNode.getText().contains(charSemicolon))
+                if (!lexicalIndex.containsSemicolon(checkNextNode))
                 {
                     resolveAddIssue(node, eObject, resultAcceptor);
                 }
             }
             if (!eObject.eContents().isEmpty())
             {
-                checkSemicolon(eObject.eContents(), resultAcceptor);
+                checkSemicolon(eObject.eContents(), lexicalIndex, resultAcceptor);
             }
         }
     }
@@ -15,7 +15,6 @@ package com.e1c.v8codestyle.bsl.check;
 import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.INVOCATION;
 
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.EList;
@@ -31,6 +30,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
@@ -114,10 +114,7 @@ public class UseNonRecommendedMethodCheck
         String name = duallyName.getName();
         String ruName = duallyName.getNameRu();
 
-        Set<String> methods = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        String paramString = parameters.getString(PARAM_METHODS_LIST);
-        Set<String> params = Set.of(paramString.replace(" ", "").split(DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
-        methods.addAll(params);
+        Set<String> methods = CheckParameterCache.getNameSet(parameters, PARAM_METHODS_LIST);
 
         if (methods.contains(name) || methods.contains(ruName))
         {
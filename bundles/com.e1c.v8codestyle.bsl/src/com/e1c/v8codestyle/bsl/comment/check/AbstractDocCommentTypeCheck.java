@@ -19,7 +19,10 @@ import java.util.Optional;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.scoping.IScopeProvider;
 
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment.Description;
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslMultiLineCommentDocumentationProvider;
 import com._1c.g5.v8.dt.bsl.documentation.comment.IBslCommentToken;
 import com._1c.g5.v8.dt.bsl.documentation.comment.IDescriptionPart;
 import com._1c.g5.v8.dt.bsl.documentation.comment.LinkPart;
@@ -43,6 +46,7 @@ import com._1c.g5.v8.dt.mcore.TypeItem;
 import com.e1c.g5.dt.core.api.naming.INamingService;
 import com.e1c.g5.dt.core.api.platform.BmOperationContext;
 import com.e1c.g5.v8.dt.bsl.check.DocumentationCommentBasicDelegateCheck;
+import com.e1c.v8codestyle.bsl.DocCommentCache;
 
 /**
  * Abstract check documentation comment model when needs to process types.
@@ -210,4 +214,29 @@ public abstract class AbstractDocCommentTypeCheck
         }
         return false;
     }
+
+    /**
+     * Gets the documentation comment referenced by the link part. If the link references to the method of module
+     * the parsed comment is shared via {@link DocCommentCache}, so the result should not be modified.
+     *
+     * @param linkPart the link part, cannot be {@link null}.
+     * @param scopeProvider the scope provider, cannot be {@link null}.
+     * @param commentProvider the comment provider, cannot be {@link null}.
+     * @param oldFormat the old format of the comment
+     * @param context the method with the link in the comment, cannot be {@link null}.
+     * @param typeComputationContext the type computation context, cannot be {@link null}.
+     * @return the documentation comment of the link or {@code null} if not found
+     */
+    protected BslDocumentationComment getLinkPartDocComment(LinkPart linkPart, IScopeProvider scopeProvider,
+        BslMultiLineCommentDocumentationProvider commentProvider, boolean oldFormat,
+        com._1c.g5.v8.dt.bsl.model.Method context, BmOperationContext typeComputationContext)
+    {
+        Optional<EObject> object = getLinkPartLastObject(linkPart, scopeProvider, context, typeComputationContext);
+        if (object.isPresent() && object.get() instanceof com._1c.g5.v8.dt.bsl.model.Method method)
+        {
+            return DocCommentCache.parseTemplateComment(method, oldFormat, commentProvider);
+        }
+        return BslCommentUtils.getLinkPartCommentContent(linkPart, scopeProvider, commentProvider, oldFormat, context,
+            v8ProjectManager, typeComputationContext);
+    }
 }
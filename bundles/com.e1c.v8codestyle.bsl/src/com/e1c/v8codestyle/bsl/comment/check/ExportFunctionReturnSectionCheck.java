@@ -21,7 +21,6 @@ import org.eclipse.xtext.scoping.IScopeProvider;
 
 import com._1c.g5.v8.dt.bsl.comment.DocumentationCommentProperties;
 import com._1c.g5.v8.dt.bsl.common.IBslPreferences;
-import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslMultiLineCommentDocumentationProvider;
 import com._1c.g5.v8.dt.bsl.documentation.comment.IDescriptionPart;
@@ -120,8 +119,8 @@ public class ExportFunctionReturnSectionCheck
             IProject project = resourceLookup.getProject(root.getModule());
             DocumentationCommentProperties props = bslPreferences.getDocumentCommentProperties(project);
 
-            docComment = BslCommentUtils.getLinkPartCommentContent(linkPart, scopeProvider, commentProvider,
-                props.oldCommentFormat(), root.getMethod(), v8ProjectManager, typeComputationContext);
+            docComment = getLinkPartDocComment(linkPart, scopeProvider, commentProvider, props.oldCommentFormat(),
+                root.getMethod(), typeComputationContext);
         }
 
         if (docComment == null || docComment.getReturnSection() == null || isTypeEmptyAndNoLink(
@@ -27,7 +27,6 @@ import org.eclipse.xtext.scoping.IScopeProvider;
 
 import com._1c.g5.v8.dt.bsl.comment.DocumentationCommentProperties;
 import com._1c.g5.v8.dt.bsl.common.IBslPreferences;
-import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment.ParametersSection;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslMultiLineCommentDocumentationProvider;
@@ -186,9 +185,8 @@ public class ParametersSectionCheck
         {
             IProject project = resourceLookup.getProject(object.getModule());
             DocumentationCommentProperties props = bslPreferences.getDocumentCommentProperties(project);
-            BslDocumentationComment docComment =
-                BslCommentUtils.getLinkPartCommentContent(linkPart, scopeProvider, commentProvider,
-                props.oldCommentFormat(), object.getMethod(), v8ProjectManager, typeComputationContext);
+            BslDocumentationComment docComment = getLinkPartDocComment(linkPart, scopeProvider, commentProvider,
+                props.oldCommentFormat(), object.getMethod(), typeComputationContext);
 
             if (docComment != null && docComment != object && depth < MAX_INHERIT_COMMENT_DEPTH)
             {
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.bsl.strict;
 
+import static com._1c.g5.v8.dt.bsl.model.BslPackage.Literals.MODULE;
+
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -19,26 +21,29 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResourceRuleFactory;
-import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
-import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.core.runtime.preferences.ConfigurationScope;
-import org.eclipse.core.runtime.preferences.DefaultScope;
-import org.eclipse.core.runtime.preferences.IScopeContext;
-import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
@@ -51,6 +56,7 @@ import com._1c.g5.v8.dt.bsl.documentation.comment.IBslCommentToken;
 import com._1c.g5.v8.dt.bsl.model.Module;
 import com._1c.g5.v8.dt.common.PreferenceUtils;
 import com._1c.g5.v8.dt.common.StringUtils;
+import com.e1c.v8codestyle.PreferenceSnapshot;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 import com.google.common.io.CharStreams;
 
@@ -88,12 +94,8 @@ public final class StrictTypeUtil
      */
     public static boolean canAddModuleStrictTypesAnnotation(IProject project)
     {
-        ProjectScope scope = new ProjectScope(project);
-        IScopeContext[] contexts =
-            new IScopeContext[] { scope, InstanceScope.INSTANCE, ConfigurationScope.INSTANCE, DefaultScope.INSTANCE };
-
-        return Platform.getPreferencesService()
-            .getBoolean(PREF_QUALIFIER, PREF_KEY_CREATE_STRICT_TYPES, PREF_DEFAULT_CREATE_STRICT_TYPES, contexts);
+        return PreferenceSnapshot.get(project, PREF_QUALIFIER)
+            .getBoolean(PREF_KEY_CREATE_STRICT_TYPES, PREF_DEFAULT_CREATE_STRICT_TYPES);
     }
 
     /**
@@ -225,32 +227,7 @@ public final class StrictTypeUtil
     public static void setStrictTypeAnnotation(IFile bslFile, IProgressMonitor monitor)
         throws IOException, CoreException
     {
-        String currentCode = StringUtils.EMPTY;
-        if (bslFile.exists())
-        {
-            try (InputStream in = bslFile.getContents();
-                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);)
-            {
-                currentCode = CharStreams.toString(reader);
-            }
-        }
-
-        String preferedLineSeparator = PreferenceUtils.getLineSeparator(bslFile.getProject());
-        StringBuilder sb = new StringBuilder();
-
-        int insertOffset = getInsertOffset(currentCode, preferedLineSeparator);
-        if (insertOffset > 0)
-        {
-            sb.append(currentCode.substring(0, insertOffset));
-            sb.append(preferedLineSeparator);
-        }
-
-        sb.append(IBslCommentToken.LINE_STARTER);
-        sb.append(" "); //$NON-NLS-1$
-        sb.append(StrictTypeUtil.STRICT_TYPE_ANNOTATION);
-        sb.append(preferedLineSeparator);
-        sb.append(preferedLineSeparator);
-        sb.append(currentCode.substring(insertOffset));
+        String code = getCodeWithStrictTypeAnnotation(bslFile);
 
         if (monitor.isCanceled())
         {
@@ -262,7 +239,7 @@ public final class StrictTypeUtil
             try
             {
                 Job.getJobManager().beginRule(rule, new NullProgressMonitor());
-                try (InputStream in = new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));)
+                try (InputStream in = new ByteArrayInputStream(code.getBytes(StandardCharsets.UTF_8));)
                 {
                     if (bslFile.exists())
                     {
@@ -288,6 +265,122 @@ public final class StrictTypeUtil
         }, monitor);
     }
 
+    /**
+     * Sets the {@code @strict-types} annotation in all BSL files that have no annotation yet. Headers of files are
+     * scanned in parallel reading only the leading comment block, and all changes are written in one workspace
+     * operation, so the workspace is built once after all changes.
+     *
+     * @param bslFiles the BSL files to update, cannot be {@code null}.
+     * @param canEdit the filter of files without annotation that can be edited, cannot be {@code null}.
+     * @param monitor the monitor, cannot be {@code null}.
+     * @return the updated files, cannot return {@code null}.
+     * @throws CoreException if the workspace operation failed
+     */
+    public static Collection<IFile> setStrictTypeAnnotation(Collection<IFile> bslFiles, Predicate<IFile> canEdit,
+        IProgressMonitor monitor) throws CoreException
+    {
+        SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+
+        // read headers of files in parallel and check editing of files without annotation sequentially
+        List<IFile> withoutAnnotation = bslFiles.parallelStream()
+            .filter(file -> !subMonitor.isCanceled() && needStrictTypeAnnotation(file))
+            .toList();
+        subMonitor.worked(1);
+        List<IFile> files = withoutAnnotation.stream().filter(canEdit).toList();
+        if (files.isEmpty() || subMonitor.isCanceled())
+        {
+            return List.of();
+        }
+
+        List<IFile> updated = new ArrayList<>();
+        ISchedulingRule rule =
+            MultiRule.combine(files.stream().map(ruleFactory::modifyRule).toArray(ISchedulingRule[]::new));
+        ResourcesPlugin.getWorkspace().run(runnableMonitor -> {
+            SubMonitor updateMonitor = SubMonitor.convert(runnableMonitor, files.size());
+            for (IFile bslFile : files)
+            {
+                if (updateMonitor.isCanceled())
+                {
+                    return;
+                }
+                try (InputStream in = new ByteArrayInputStream(
+                    getCodeWithStrictTypeAnnotation(bslFile).getBytes(StandardCharsets.UTF_8)))
+                {
+                    bslFile.setContents(in, true, true, updateMonitor.split(1));
+                    updated.add(bslFile);
+                }
+                catch (IOException e)
+                {
+                    IStatus status =
+                        BslPlugin.createErrorStatus("Can't update bsl file with name: " + bslFile.getName(), e); //$NON-NLS-1$
+                    BslPlugin.log(status);
+                }
+            }
+        }, rule, IWorkspace.AVOID_UPDATE, subMonitor.split(1));
+        return updated;
+    }
+
+    /**
+     * Creates the proxy of the module of the BSL file.
+     *
+     * @param bslFile the BSL file, cannot be {@code null}.
+     * @return the proxy of module, cannot return {@code null}.
+     */
+    public static EObject createModuleProxy(IFile bslFile)
+    {
+        EObject module = EcoreUtil.create(MODULE);
+        URI uri = URI.createPlatformResourceURI(bslFile.getFullPath().toString(), true).appendFragment("/0"); //$NON-NLS-1$
+        ((InternalEObject)module).eSetProxyURI(uri);
+        return module;
+    }
+
+    private static boolean needStrictTypeAnnotation(IFile file)
+    {
+        if (BSL_FILE_EXTENSION.equals(file.getFileExtension()) && file.isAccessible())
+        {
+            try
+            {
+                return !hasStrictTypeAnnotation(file);
+            }
+            catch (CoreException | IOException e)
+            {
+                BslPlugin.logError(e);
+            }
+        }
+        return false;
+    }
+
+    private static String getCodeWithStrictTypeAnnotation(IFile bslFile) throws IOException, CoreException
+    {
+        String currentCode = StringUtils.EMPTY;
+        if (bslFile.exists())
+        {
+            try (InputStream in = bslFile.getContents();
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);)
+            {
+                currentCode = CharStreams.toString(reader);
+            }
+        }
+
+        String preferedLineSeparator = PreferenceUtils.getLineSeparator(bslFile.getProject());
+        StringBuilder sb = new StringBuilder();
+
+        int insertOffset = getInsertOffset(currentCode, preferedLineSeparator);
+        if (insertOffset > 0)
+        {
+            sb.append(currentCode.substring(0, insertOffset));
+            sb.append(preferedLineSeparator);
+        }
+
+        sb.append(IBslCommentToken.LINE_STARTER);
+        sb.append(" "); //$NON-NLS-1$
+        sb.append(StrictTypeUtil.STRICT_TYPE_ANNOTATION);
+        sb.append(preferedLineSeparator);
+        sb.append(preferedLineSeparator);
+        sb.append(currentCode.substring(insertOffset));
+        return sb.toString();
+    }
+
     private static int getInsertOffset(String currentCode, String preferedLineSeparator)
     {
         int separator = preferedLineSeparator.length();
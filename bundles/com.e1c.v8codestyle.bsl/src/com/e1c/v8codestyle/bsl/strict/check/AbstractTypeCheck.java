@@ -12,16 +12,10 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.bsl.strict.check;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -30,8 +24,6 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
-import org.eclipse.xtext.naming.QualifiedName;
-import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.IScopeProvider;
@@ -59,16 +51,14 @@ import com._1c.g5.v8.dt.core.platform.IV8Project;
 import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
 import com._1c.g5.v8.dt.mcore.Environmental;
 import com._1c.g5.v8.dt.mcore.McorePackage;
-import com._1c.g5.v8.dt.mcore.Type;
 import com._1c.g5.v8.dt.mcore.TypeItem;
-import com._1c.g5.v8.dt.mcore.TypeSet;
 import com._1c.g5.v8.dt.mcore.util.Environments;
 import com._1c.g5.v8.dt.mcore.util.McoreUtil;
-import com._1c.g5.v8.dt.platform.IEObjectTypeNames;
 import com.e1c.g5.dt.core.api.naming.INamingService;
 import com.e1c.g5.dt.core.api.platform.BmOperationContext;
 import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
+import com.e1c.v8codestyle.bsl.strict.check.TypeNameIndex.TypeNameTable;
 import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 
 /**
@@ -80,10 +70,6 @@ import com.e1c.v8codestyle.internal.bsl.BslPlugin;
 public abstract class AbstractTypeCheck
     extends BasicCheck
 {
-    private static final String COMMON_MODULE = "CommonModule"; //$NON-NLS-1$
-
-    private static final QualifiedName QN_COMMON_MODULE = QualifiedName.create(COMMON_MODULE);
-
     /** The resource lookup service. */
     protected final IResourceLookup resourceLookup;
 
@@ -116,7 +102,9 @@ public abstract class AbstractTypeCheck
      */
     protected final IV8ProjectManager v8ProjectManager;
 
-    private final InternalTypeNameRegistry internalTypeNameRegistry;
+    private final TypeNameIndex typeNameIndex;
+
+    private final ParentTypesIndex parentTypesIndex;
 
     /**
      * Instantiates a new abstract type check.
@@ -145,8 +133,8 @@ public abstract class AbstractTypeCheck
         this.scopeProvider = rsp.get(IScopeProvider.class);
         this.commentProvider = rsp.get(BslMultiLineCommentDocumentationProvider.class);
         this.qualifiedNameConverter = qualifiedNameConverter;
-        this.internalTypeNameRegistry =
-            BslPlugin.getDefault().getInjector().getInstance(InternalTypeNameRegistry.class);
+        this.typeNameIndex = BslPlugin.getDefault().getInjector().getInstance(TypeNameIndex.class);
+        this.parentTypesIndex = BslPlugin.getDefault().getInjector().getInstance(ParentTypesIndex.class);
 
     }
 
@@ -270,13 +258,10 @@ public abstract class AbstractTypeCheck
         {
             return true;
         }
-        Collection<String> expectedTypesNames = getTypeNames(expectedTypes, context);
-        expectedTypesNames.addAll(getCastingType(expectedTypesNames));
-        if (expectedTypesNames.contains(IEObjectTypeNames.ARBITRARY)
-            || expectedTypesNames.contains(IEObjectTypeNames.UNDEFINED)
-            || expectedTypesNames.contains(IEObjectTypeNames.REFERENCE_TO_OBJECT_OF_INFORMATION_BASE)
-            || expectedTypesNames.contains(IEObjectTypeNames.XDTO_DATA_VALUE)
-            || expectedTypesNames.contains(IEObjectTypeNames.XDTO_DATA_OBJECT))
+        TypeNameTable typeNameTable = typeNameIndex.getTable(context);
+        BitSet expectedTypesNames = getTypeNames(expectedTypes, context, typeNameTable);
+        typeNameTable.addCastingTypes(expectedTypesNames);
+        if (typeNameTable.containsAnyType(expectedTypesNames))
         {
             return true;
         }
@@ -285,12 +270,11 @@ public abstract class AbstractTypeCheck
             return false;
         }
         Collection<TypeItem> withParentTypes = getParentsOfRealTypes(realTypes, context);
-        Collection<String> realTypesNames = getTypeNames(withParentTypes, context);
+        BitSet realTypesNames = getTypeNames(withParentTypes, context, typeNameTable);
 
         if (!expectedTypesNames.isEmpty() && !realTypesNames.isEmpty())
         {
-            expectedTypesNames.retainAll(realTypesNames);
-            return !expectedTypesNames.isEmpty();
+            return expectedTypesNames.intersects(realTypesNames);
         }
         else
         {
@@ -339,90 +323,25 @@ public abstract class AbstractTypeCheck
         return bslPreferences.getLoadEnvs(object).intersect(envs.environments());
     }
 
-    private static Collection<? extends String> getCastingType(Collection<String> expectedTypesNames)
-    {
-        List<String> castTypeNames = new ArrayList<>();
-        for (String typeName : expectedTypesNames)
-        {
-            if (IEObjectTypeNames.STRUCTURE.equals(typeName))
-            {
-                castTypeNames.add(IEObjectTypeNames.FIXED_STRUCTURE);
-            }
-        }
-        return castTypeNames;
-    }
-
     private Collection<TypeItem> getParentsOfRealTypes(Collection<TypeItem> realTypes, EObject context)
     {
-        Deque<TypeItem> types = new ArrayDeque<>(realTypes);
-        List<TypeItem> parentTypes = new LinkedList<>();
-        while (!types.isEmpty())
+        List<TypeItem> parentTypes = new ArrayList<>();
+        for (TypeItem type : realTypes)
         {
-            TypeItem type = types.pollFirst();
-            type = (TypeItem)EcoreUtil.resolve(type, context);
-            parentTypes.add(type);
-            if (type instanceof TypeSet)
-            {
-                ((TypeSet)type).getTypes().forEach(types::add);
-            }
-            if (type instanceof Type && ((Type)type).getParentType() != null)
-            {
-                types.add(((Type)type).getParentType());
-            }
-            else if (type instanceof Type && COMMON_MODULE.equals(McoreUtil.getTypeCategory(type)))
-            {
-                // Here is bypass of wrong type hierarchy of types for common modules
-                IScope typeScope = scopeProvider.getScope(context, McorePackage.Literals.TYPE_DESCRIPTION__TYPES);
-                IEObjectDescription element = typeScope.getSingleElement(QN_COMMON_MODULE);
-                if (element != null)
-                {
-                    EObject parentCommonModuleType = element.getEObjectOrProxy();
-                    if (parentCommonModuleType instanceof TypeItem)
-                    {
-                        parentTypes.add((TypeItem)parentCommonModuleType);
-                    }
-                }
-            }
+            parentTypes.addAll(parentTypesIndex.getParentTypes(type, context));
         }
         return parentTypes;
     }
 
-    private Collection<String> getTypeNames(Collection<TypeItem> parentTypes, EObject context)
+    private BitSet getTypeNames(Collection<TypeItem> parentTypes, EObject context, TypeNameTable typeNameTable)
     {
-        Set<String> typeNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        BitSet typeNames = new BitSet();
         for (TypeItem type : parentTypes)
         {
             type = (TypeItem)EcoreUtil.resolve(type, context);
-            String typeName = McoreUtil.getTypeName(type);
-            if (typeName != null)
-            {
-                typeNames.add(typeName);
-                String parentTypeName = getTypeSetItemParentTypeName(typeName);
-                if (parentTypeName != null)
-                {
-                    typeNames.add(parentTypeName);
-                }
-            }
-            if (type instanceof TypeSet && typeName != null)
-            {
-                typeNames.addAll(((TypeSet)type).getTypes()
-                    .stream()
-                    .map(McoreUtil::getTypeName)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
-
-                if (IEObjectTypeNames.ANY_REF.equals(typeName))
-                {
-                    typeNames.addAll(internalTypeNameRegistry.allRefTypeSetParentTypeNames());
-                }
-            }
+            typeNameTable.addTypeNames(type, typeNames);
         }
         return typeNames;
     }
 
-    private String getTypeSetItemParentTypeName(String typeName)
-    {
-        return internalTypeNameRegistry.getInternalTypeName(typeName);
-    }
-
 }
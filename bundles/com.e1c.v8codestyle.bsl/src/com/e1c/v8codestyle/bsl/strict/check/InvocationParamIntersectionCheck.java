@@ -42,7 +42,6 @@ import org.eclipse.xtext.util.Tuples;
 
 import com._1c.g5.v8.bm.core.IBmTransaction;
 import com._1c.g5.v8.dt.bsl.common.IBslPreferences;
-import com._1c.g5.v8.dt.bsl.documentation.comment.BslCommentUtils;
 import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
 import com._1c.g5.v8.dt.bsl.model.BslPackage;
 import com._1c.g5.v8.dt.bsl.model.DynamicFeatureAccess;
@@ -79,6 +78,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.ModuleTopObjectNameFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.bsl.DocCommentCache;
 import com.google.inject.Inject;
 
 /**
@@ -434,7 +434,7 @@ public class InvocationParamIntersectionCheck
             typeScope = scopeProvider.getScope(method, McorePackage.Literals.TYPE_DESCRIPTION__TYPES);
 
             BslDocumentationComment docModel =
-                BslCommentUtils.parseTemplateComment(method, oldFormatComment, commentProvider);
+                DocCommentCache.parseTemplateComment(method, oldFormatComment, commentProvider);
             if (docModel.getParametersSection() == null
                 || docModel.getParametersSection().getParameterDefinitions().isEmpty())
             {
@@ -540,7 +540,7 @@ public class InvocationParamIntersectionCheck
         Method sourceMethod = (Method)source;
 
         BslDocumentationComment docComment =
-            BslCommentUtils.parseTemplateComment(sourceMethod, oldFormatComment, commentProvider);
+            DocCommentCache.parseTemplateComment(sourceMethod, oldFormatComment, commentProvider);
         return Optional.ofNullable(docComment);
     }
 
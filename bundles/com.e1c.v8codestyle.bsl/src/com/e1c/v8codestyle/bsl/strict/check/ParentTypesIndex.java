@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.strict.check;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.IScopeProvider;
+
+import com._1c.g5.v8.bm.core.event.BmEvent;
+import com._1c.g5.v8.bm.integration.IBmModel;
+import com._1c.g5.v8.bm.integration.event.BmEventFilter;
+import com._1c.g5.v8.bm.integration.event.IBmAsyncEventListener;
+import com._1c.g5.v8.dt.core.platform.IBmModelManager;
+import com._1c.g5.v8.dt.core.platform.IResourceLookup;
+import com._1c.g5.v8.dt.core.platform.IV8Project;
+import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
+import com._1c.g5.v8.dt.mcore.McorePackage;
+import com._1c.g5.v8.dt.mcore.Type;
+import com._1c.g5.v8.dt.mcore.TypeItem;
+import com._1c.g5.v8.dt.mcore.TypeSet;
+import com._1c.g5.v8.dt.mcore.util.McoreUtil;
+import com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage;
+import com._1c.g5.v8.dt.platform.version.Version;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The index of parent types closure of types. The closure of the type contains the type itself, items of type sets
+ * and all parent types, including the {@code CommonModule} type for types of common modules.
+ * <p>
+ * The closure of the type is computed once per type name, project and platform version, and all closures
+ * of the project are dropped when MD objects of the project are changed.
+ * Closures are kept by type name, so cached types do not hold their keys.
+ *
+ * @author agent
+ */
+@Singleton
+public class ParentTypesIndex
+{
+
+    private static final String COMMON_MODULE = "CommonModule"; //$NON-NLS-1$
+
+    private static final QualifiedName QN_COMMON_MODULE = QualifiedName.create(COMMON_MODULE);
+
+    private final IResourceLookup resourceLookup;
+
+    private final IBmModelManager bmModelManager;
+
+    private final IV8ProjectManager v8ProjectManager;
+
+    private final IScopeProvider scopeProvider;
+
+    private final BmEventFilter filter = BmEventFilter.eClassChangeFilter(MdClassPackage.Literals.MD_OBJECT);
+
+    private final Map<IBmModel, ProjectTypes> projectTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new index of parent types.
+     *
+     * @param resourceLookup the resource lookup service, cannot be {@code null}.
+     * @param bmModelManager the BM model manager service, cannot be {@code null}.
+     * @param v8ProjectManager the V8 project manager service, cannot be {@code null}.
+     * @param scopeProvider the scope provider service, cannot be {@code null}.
+     */
+    @Inject
+    public ParentTypesIndex(IResourceLookup resourceLookup, IBmModelManager bmModelManager,
+        IV8ProjectManager v8ProjectManager, IScopeProvider scopeProvider)
+    {
+        this.resourceLookup = resourceLookup;
+        this.bmModelManager = bmModelManager;
+        this.v8ProjectManager = v8ProjectManager;
+        this.scopeProvider = scopeProvider;
+    }
+
+    /**
+     * Gets the resolved type with items of type sets and all parent types.
+     *
+     * @param type the type, cannot be {@code null}.
+     * @param context the context object to resolve proxy types, cannot be {@code null}.
+     * @return the unmodifiable list of resolved types, cannot return {@code null}.
+     */
+    public List<TypeItem> getParentTypes(TypeItem type, EObject context)
+    {
+        TypeItem resolved = (TypeItem)EcoreUtil.resolve(type, context);
+        ProjectTypes types = resolved.eIsProxy() ? null : getProjectTypes(context);
+        if (types == null)
+        {
+            return computeParentTypes(resolved, context, null);
+        }
+        return types.getParentTypes(resolved, context);
+    }
+
+    private List<TypeItem> computeParentTypes(TypeItem rootType, EObject context, Closures closures)
+    {
+        Deque<TypeItem> types = new ArrayDeque<>();
+        types.add(rootType);
+        List<TypeItem> parentTypes = new ArrayList<>();
+        while (!types.isEmpty())
+        {
+            TypeItem type = types.pollFirst();
+            type = (TypeItem)EcoreUtil.resolve(type, context);
+            parentTypes.add(type);
+            if (type instanceof TypeSet typeSet)
+            {
+                types.addAll(typeSet.getTypes());
+            }
+            if (type instanceof Type && ((Type)type).getParentType() != null)
+            {
+                types.add(((Type)type).getParentType());
+            }
+            else if (type instanceof Type && COMMON_MODULE.equals(McoreUtil.getTypeCategory(type)))
+            {
+                // Here is bypass of wrong type hierarchy of types for common modules
+                TypeItem parentCommonModuleType =
+                    closures == null ? getCommonModuleType(context) : closures.getCommonModuleType(context);
+                if (parentCommonModuleType != null)
+                {
+                    parentTypes.add(parentCommonModuleType);
+                }
+            }
+        }
+        return Collections.unmodifiableList(parentTypes);
+    }
+
+    private TypeItem getCommonModuleType(EObject context)
+    {
+        IScope typeScope = scopeProvider.getScope(context, McorePackage.Literals.TYPE_DESCRIPTION__TYPES);
+        IEObjectDescription element = typeScope.getSingleElement(QN_COMMON_MODULE);
+        if (element != null && element.getEObjectOrProxy() instanceof TypeItem parentCommonModuleType)
+        {
+            return parentCommonModuleType;
+        }
+        return null;
+    }
+
+    private ProjectTypes getProjectTypes(EObject context)
+    {
+        IProject project = resourceLookup.getProject(context);
+        if (project == null)
+        {
+            return null;
+        }
+        IBmModel model = bmModelManager.getModel(project);
+        if (model == null || model.isDisposed())
+        {
+            return null;
+        }
+
+        removeDisposedModels();
+        return projectTypes.computeIfAbsent(model, ProjectTypes::new);
+    }
+
+    private void removeDisposedModels()
+    {
+        for (Iterator<Entry<IBmModel, ProjectTypes>> iterator = projectTypes.entrySet().iterator();
+            iterator.hasNext();)
+        {
+            Entry<IBmModel, ProjectTypes> entry = iterator.next();
+            if (entry.getKey().isDisposed())
+            {
+                entry.getKey().removeAsyncEventListener(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * The closures of types computed for the platform version of the project.
+     */
+    private final class Closures
+    {
+
+        private final Version version;
+
+        /** The closures by type name. */
+        private final Map<String, List<TypeItem>> parentTypes = new ConcurrentHashMap<>();
+
+        private volatile boolean commonModuleTypeComputed;
+
+        private volatile TypeItem commonModuleType;
+
+        private Closures(Version version)
+        {
+            this.version = version;
+        }
+
+        private TypeItem getCommonModuleType(EObject context)
+        {
+            if (!commonModuleTypeComputed)
+            {
+                commonModuleType = ParentTypesIndex.this.getCommonModuleType(context);
+                commonModuleTypeComputed = true;
+            }
+            return commonModuleType;
+        }
+    }
+
+    private final class ProjectTypes
+        implements IBmAsyncEventListener
+    {
+
+        private final AtomicLong modificationStamp = new AtomicLong();
+
+        private volatile Closures closures;
+
+        private ProjectTypes(IBmModel model)
+        {
+            model.addAsyncEventListener(this, filter);
+        }
+
+        private List<TypeItem> getParentTypes(TypeItem type, EObject context)
+        {
+            String typeName = McoreUtil.getTypeName(type);
+            long stamp = modificationStamp.get();
+            Closures current = getClosures(context);
+            List<TypeItem> result = typeName == null ? null : current.parentTypes.get(typeName);
+            if (result == null)
+            {
+                result = computeParentTypes(type, context, current);
+                if (typeName != null && stamp == modificationStamp.get())
+                {
+                    current.parentTypes.put(typeName, result);
+                }
+            }
+            return result;
+        }
+
+        private Closures getClosures(EObject context)
+        {
+            IV8Project v8Project = v8ProjectManager.getProject(context);
+            Version version = v8Project == null ? null : v8Project.getVersion();
+
+            Closures current = closures;
+            if (current == null || !Objects.equals(current.version, version))
+            {
+                current = new Closures(version);
+                closures = current;
+            }
+            return current;
+        }
+
+        @Override
+        public void handleAsyncEvent(BmEvent event)
+        {
+            modificationStamp.incrementAndGet();
+            closures = null;
+        }
+    }
+
+}
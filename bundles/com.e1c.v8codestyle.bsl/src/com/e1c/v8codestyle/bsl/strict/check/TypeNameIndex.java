@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.strict.check;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.emf.ecore.EObject;
+
+import com._1c.g5.v8.bm.integration.IBmModel;
+import com._1c.g5.v8.dt.core.platform.IBmModelManager;
+import com._1c.g5.v8.dt.core.platform.IResourceLookup;
+import com._1c.g5.v8.dt.mcore.TypeItem;
+import com._1c.g5.v8.dt.mcore.TypeSet;
+import com._1c.g5.v8.dt.mcore.util.McoreUtil;
+import com._1c.g5.v8.dt.platform.IEObjectTypeNames;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The index of type names interned to integer IDs, that allows to represent collections of type names
+ * as {@link BitSet}, so intersection of type collections is a word-wise operation.
+ * Type names are compared case-insensitively.
+ * <p>
+ * Type names are interned in the table of the project, so IDs are bounded by type names of the project
+ * and the table is dropped when the BM model of the project is disposed.
+ * The names of the type itself and its internal parent type are computed once per type name,
+ * and the expansion of the {@code AnyRef} type set is computed once.
+ *
+ * @author agent
+ */
+@Singleton
+public class TypeNameIndex
+{
+
+    private final IResourceLookup resourceLookup;
+
+    private final IBmModelManager bmModelManager;
+
+    private final InternalTypeNameRegistry internalTypeNameRegistry;
+
+    private final Map<IBmModel, TypeNameTable> projectTables = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new type name index.
+     *
+     * @param resourceLookup the resource lookup service, cannot be {@code null}.
+     * @param bmModelManager the BM model manager service, cannot be {@code null}.
+     * @param internalTypeNameRegistry the internal type name registry, cannot be {@code null}.
+     */
+    @Inject
+    public TypeNameIndex(IResourceLookup resourceLookup, IBmModelManager bmModelManager,
+        InternalTypeNameRegistry internalTypeNameRegistry)
+    {
+        this.resourceLookup = resourceLookup;
+        this.bmModelManager = bmModelManager;
+        this.internalTypeNameRegistry = internalTypeNameRegistry;
+    }
+
+    /**
+     * Gets the table of type names of the project of the context object. IDs of type names of different tables
+     * should not be mixed.
+     *
+     * @param context the context object of the project, cannot be {@code null}.
+     * @return the table of type names of the project, or new table if the object is not in BM model,
+     *          cannot return {@code null}.
+     */
+    public TypeNameTable getTable(EObject context)
+    {
+        IProject project = resourceLookup.getProject(context);
+        IBmModel model = project == null ? null : bmModelManager.getModel(project);
+        if (model == null || model.isDisposed())
+        {
+            return new TypeNameTable();
+        }
+
+        projectTables.keySet().removeIf(IBmModel::isDisposed);
+        return projectTables.computeIfAbsent(model, m -> new TypeNameTable());
+    }
+
+    /**
+     * The table of type names interned to integer IDs.
+     */
+    public final class TypeNameTable
+    {
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+        private final Map<String, BitSet> typeNames = new ConcurrentHashMap<>();
+
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        private final int structureId;
+
+        private final int fixedStructureId;
+
+        private final BitSet anyTypeIds;
+
+        private volatile BitSet allRefTypeSetParentTypeIds;
+
+        private TypeNameTable()
+        {
+            this.structureId = getId(IEObjectTypeNames.STRUCTURE);
+            this.fixedStructureId = getId(IEObjectTypeNames.FIXED_STRUCTURE);
+            this.anyTypeIds = getIds(IEObjectTypeNames.ARBITRARY, IEObjectTypeNames.UNDEFINED,
+                IEObjectTypeNames.REFERENCE_TO_OBJECT_OF_INFORMATION_BASE, IEObjectTypeNames.XDTO_DATA_VALUE,
+                IEObjectTypeNames.XDTO_DATA_OBJECT);
+        }
+
+        /**
+         * Gets the ID of the type name.
+         *
+         * @param typeName the type name, cannot be {@code null}.
+         * @return the ID of the type name
+         */
+        public int getId(String typeName)
+        {
+            return ids.computeIfAbsent(typeName.toLowerCase(Locale.ROOT), k -> nextId.getAndIncrement());
+        }
+
+        /**
+         * Adds IDs of names of the resolved type to the set: the type name, the internal parent type name,
+         * names of items of the type set, and all reference parent type names for the {@code AnyRef} type set.
+         *
+         * @param type the resolved type, cannot be {@code null}.
+         * @param typeIds the set of type name IDs to add to, cannot be {@code null}.
+         */
+        public void addTypeNames(TypeItem type, BitSet typeIds)
+        {
+            String typeName = McoreUtil.getTypeName(type);
+            if (typeName == null)
+            {
+                return;
+            }
+
+            typeIds.or(getTypeNames(typeName));
+
+            if (type instanceof TypeSet typeSet)
+            {
+                for (TypeItem item : typeSet.getTypes())
+                {
+                    String itemName = McoreUtil.getTypeName(item);
+                    if (itemName != null)
+                    {
+                        typeIds.set(getId(itemName));
+                    }
+                }
+
+                if (IEObjectTypeNames.ANY_REF.equals(typeName))
+                {
+                    typeIds.or(getAllRefTypeSetParentTypeIds());
+                }
+            }
+        }
+
+        /**
+         * Adds IDs of types which values can be cast to one of the expected types, so {@code FixedStructure}
+         * is accepted where {@code Structure} is expected.
+         *
+         * @param expectedTypeIds the set of expected type name IDs, cannot be {@code null}.
+         */
+        public void addCastingTypes(BitSet expectedTypeIds)
+        {
+            if (expectedTypeIds.get(structureId))
+            {
+                expectedTypeIds.set(fixedStructureId);
+            }
+        }
+
+        /**
+         * Checks if the set of expected types contains a type that accepts a value of any type, like
+         * {@code Arbitrary} or {@code Undefined}.
+         *
+         * @param expectedTypeIds the set of expected type name IDs, cannot be {@code null}.
+         * @return true, if one of expected types accepts a value of any type
+         */
+        public boolean containsAnyType(BitSet expectedTypeIds)
+        {
+            return expectedTypeIds.intersects(anyTypeIds);
+        }
+
+        private BitSet getTypeNames(String typeName)
+        {
+            return typeNames.computeIfAbsent(typeName, name -> {
+                BitSet result = new BitSet();
+                result.set(getId(name));
+                String parentTypeName = internalTypeNameRegistry.getInternalTypeName(name);
+                if (parentTypeName != null)
+                {
+                    result.set(getId(parentTypeName));
+                }
+                return result;
+            });
+        }
+
+        private BitSet getAllRefTypeSetParentTypeIds()
+        {
+            BitSet result = allRefTypeSetParentTypeIds;
+            if (result == null)
+            {
+                result = getIds(internalTypeNameRegistry.allRefTypeSetParentTypeNames().toArray(new String[0]));
+                allRefTypeSetParentTypeIds = result;
+            }
+            return result;
+        }
+
+        private BitSet getIds(String... names)
+        {
+            BitSet result = new BitSet();
+            for (String name : names)
+            {
+                result.set(getId(name));
+            }
+            return result;
+        }
+    }
+
+}
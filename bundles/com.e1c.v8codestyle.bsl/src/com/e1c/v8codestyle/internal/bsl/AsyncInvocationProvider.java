@@ -12,18 +12,32 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.internal.bsl;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 import com._1c.g5.v8.dt.bm.xtext.BmAwareResourceSetProvider;
 import com._1c.g5.v8.dt.core.platform.IV8Project;
@@ -44,7 +58,12 @@ import com.e1c.v8codestyle.bsl.IAsyncInvocationProvider;
 import com.google.inject.Inject;
 
 /**
- * Implementing service to provide asynchronous methods
+ * Implementing service to provide asynchronous methods.
+ * <p>
+ * The tables of asynchronous methods are immutable and are collected once per platform version. The collected tables
+ * are stored as a snapshot in the plugin state location, so next start of the application loads the snapshot
+ * instead of resolving all platform methods and types. The tables may be warmed up in background by
+ * {@link #warmUp(Version)}.
  *
  * @author Artem Iliukhin
  */
@@ -55,8 +74,16 @@ public class AsyncInvocationProvider
     private static final String RET_TYPE_NAME = "Promise"; //$NON-NLS-1$
     private static final String EXEPTION_NAME = "RunCallback"; //$NON-NLS-1$
     private static final String TYPE_NAME = "NotifyDescription"; //$NON-NLS-1$
-    private final Map<Version, Collection<String>> cashNames;
-    private final Map<Version, Map<String, Collection<String>>> cashTypesMethodNames;
+
+    private static final String SNAPSHOT_FOLDER = "async-methods"; //$NON-NLS-1$
+    private static final String SNAPSHOT_EXTENSION = ".txt"; //$NON-NLS-1$
+    private static final String SNAPSHOT_FORMAT = "1"; //$NON-NLS-1$
+    private static final String SNAPSHOT_GLOBAL_METHOD = "G"; //$NON-NLS-1$
+    private static final String SNAPSHOT_TYPE_METHOD = "T"; //$NON-NLS-1$
+    private static final String SNAPSHOT_SEPARATOR = "\t"; //$NON-NLS-1$
+
+    private final Map<Version, AsyncMethods> cashMethods;
+    private final Set<Version> warmUpVersions;
     private final IV8ProjectManager v8ProjectManager;
     private final BmAwareResourceSetProvider resourceSetProvider;
     private final Set<Environment> clientEnv;
@@ -67,8 +94,8 @@ public class AsyncInvocationProvider
         super();
         this.v8ProjectManager = v8ProjectManager;
         this.resourceSetProvider = resourceSetProvider;
-        this.cashNames = new ConcurrentHashMap<>();
-        this.cashTypesMethodNames = new ConcurrentHashMap<>();
+        this.cashMethods = new ConcurrentHashMap<>();
+        this.warmUpVersions = ConcurrentHashMap.newKeySet();
         this.clientEnv = Set.of(Environment.CLIENT, Environment.MNG_CLIENT, Environment.MOBILE_CLIENT,
             Environment.MOBILE_THIN_CLIENT, Environment.THIN_CLIENT, Environment.WEB_CLIENT);
     }
@@ -76,70 +103,124 @@ public class AsyncInvocationProvider
     @Override
     public Collection<String> getAsyncInvocationNames(Version version)
     {
-        return cashNames.computeIfAbsent(version, this::collectGlobalAsyncMethods);
+        return getAsyncMethods(version).names();
     }
 
     @Override
     public Map<String, Collection<String>> getAsyncTypeMethodNames(Version version)
     {
-        return cashTypesMethodNames.computeIfAbsent(version, this::collectAsyncMethods);
+        return getAsyncMethods(version).typeMethodNames();
     }
 
-    private Collection<String> collectGlobalAsyncMethods(Version version)
+    /**
+     * Schedules the background job that loads or collects the tables of asynchronous methods of the platform version,
+     * if they are not loaded yet.
+     *
+     * @param version the version of platform, cannot be {@code null}.
+     */
+    public void warmUp(Version version)
     {
-        Collection<String> asyncMethodsNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        Iterator<IV8Project> iterator = v8ProjectManager.getProjects().iterator();
-        if (iterator.hasNext())
+        if (cashMethods.containsKey(version) || !warmUpVersions.add(version))
+        {
+            return;
+        }
+
+        Job job = Job.create("Collect asynchronous methods of platform " + version, monitor -> { //$NON-NLS-1$
+            if (getAsyncMethods(version) == AsyncMethods.EMPTY)
+            {
+                // allow to warm up again when a project is opened
+                warmUpVersions.remove(version);
+            }
+            return Status.OK_STATUS;
+        });
+        job.setSystem(true);
+        job.setPriority(Job.DECORATE);
+        job.schedule();
+    }
+
+    private AsyncMethods getAsyncMethods(Version version)
+    {
+        AsyncMethods methods = cashMethods.get(version);
+        if (methods == null)
         {
-            ResourceSet context = resourceSetProvider.get(iterator.next().getProject());
-            IEObjectProvider provider = IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.METHOD, version);
-            Iterable<IEObjectDescription> items = provider.getEObjectDescriptions(null);
-            for (IEObjectDescription item : items)
+            methods = loadSnapshot(version);
+            if (methods == null)
             {
-                EObject object = EcoreUtil.resolve(item.getEObjectOrProxy(), context);
-                if (object instanceof Method)
+                methods = collect(version);
+                if (methods == null)
                 {
-                    collectMethod(asyncMethodsNames, (Method)object);
+                    // there is no project to resolve platform objects, so do not cache empty tables
+                    return AsyncMethods.EMPTY;
                 }
+                saveSnapshot(version, methods);
+            }
+            AsyncMethods existing = cashMethods.putIfAbsent(version, methods);
+            if (existing != null)
+            {
+                methods = existing;
             }
         }
-        return asyncMethodsNames;
+        return methods;
     }
 
-    private Map<String, Collection<String>> collectAsyncMethods(Version version)
+    private AsyncMethods collect(Version version)
     {
-        Map<String, Collection<String>> asyncMethodsNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         Iterator<IV8Project> iterator = v8ProjectManager.getProjects().iterator();
-        if (iterator.hasNext())
+        if (!iterator.hasNext())
         {
-            ResourceSet context = resourceSetProvider.get(iterator.next().getProject());
-            IEObjectProvider provider =
-                IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.TYPE_ITEM, version);
-            Iterable<IEObjectDescription> items = provider.getEObjectDescriptions(null);
+            return null;
+        }
+
+        ResourceSet context = resourceSetProvider.get(iterator.next().getProject());
+        SortedSet<String> names = collectGlobalAsyncMethods(version, context);
+        Map<String, SortedSet<String>> typeMethodNames = collectAsyncMethods(version, context);
+        return AsyncMethods.of(names, typeMethodNames);
+    }
+
+    private SortedSet<String> collectGlobalAsyncMethods(Version version, ResourceSet context)
+    {
+        SortedSet<String> asyncMethodsNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        IEObjectProvider provider = IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.METHOD, version);
+        Iterable<IEObjectDescription> items = provider.getEObjectDescriptions(null);
+        for (IEObjectDescription item : items)
+        {
+            EObject object = EcoreUtil.resolve(item.getEObjectOrProxy(), context);
+            if (object instanceof Method)
+            {
+                collectMethod(asyncMethodsNames, (Method)object);
+            }
+        }
+        return asyncMethodsNames;
+    }
 
-            for (IEObjectDescription item : items)
+    private Map<String, SortedSet<String>> collectAsyncMethods(Version version, ResourceSet context)
+    {
+        Map<String, SortedSet<String>> asyncMethodsNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        IEObjectProvider provider = IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.TYPE_ITEM, version);
+        Iterable<IEObjectDescription> items = provider.getEObjectDescriptions(null);
+
+        for (IEObjectDescription item : items)
+        {
+            EObject object = EcoreUtil.resolve(item.getEObjectOrProxy(), context);
+            if (object instanceof Type)
             {
-                EObject object = EcoreUtil.resolve(item.getEObjectOrProxy(), context);
-                if (object instanceof Type)
+                Type type = (Type)object;
+                process(asyncMethodsNames, type);
+            }
+            else if (object instanceof TypeSet)
+            {
+                TypeSet typeSet = (TypeSet)object;
+                for (Type type : typeSet.getTypes())
                 {
-                    Type type = (Type)object;
                     process(asyncMethodsNames, type);
                 }
-                else if (object instanceof TypeSet)
-                {
-                    TypeSet typeSet = (TypeSet)object;
-                    for (Type type : typeSet.getTypes())
-                    {
-                        process(asyncMethodsNames, type);
-                    }
-                }
             }
         }
 
         return asyncMethodsNames;
     }
 
-    private void process(Map<String, Collection<String>> asyncMethodsNames, Type type)
+    private void process(Map<String, SortedSet<String>> asyncMethodsNames, Type type)
     {
         if (type == null || type.eIsProxy())
         {
@@ -239,4 +320,125 @@ public class AsyncInvocationProvider
         return false;
     }
 
+    private AsyncMethods loadSnapshot(Version version)
+    {
+        Path file = getSnapshotFile(version);
+        if (file == null || !Files.isRegularFile(file))
+        {
+            return null;
+        }
+
+        SortedSet<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, SortedSet<String>> typeMethodNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+        {
+            if (!getSnapshotHeader().equals(reader.readLine()))
+            {
+                // the snapshot is created by other version of platform support
+                return null;
+            }
+
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+            {
+                String[] values = line.split(SNAPSHOT_SEPARATOR);
+                if (values.length > 1 && SNAPSHOT_GLOBAL_METHOD.equals(values[0]))
+                {
+                    names.add(values[1]);
+                }
+                else if (values.length > 1 && SNAPSHOT_TYPE_METHOD.equals(values[0]))
+                {
+                    SortedSet<String> typeNames = typeMethodNames.computeIfAbsent(values[1], k -> new TreeSet<>());
+                    for (int i = 2; i < values.length; i++)
+                    {
+                        typeNames.add(values[i]);
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            BslPlugin.logError(e);
+            return null;
+        }
+        return AsyncMethods.of(names, typeMethodNames);
+    }
+
+    private void saveSnapshot(Version version, AsyncMethods methods)
+    {
+        Path file = getSnapshotFile(version);
+        if (file == null)
+        {
+            return;
+        }
+
+        try
+        {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8))
+            {
+                writer.write(getSnapshotHeader());
+                writer.newLine();
+                for (String name : methods.names())
+                {
+                    writer.write(SNAPSHOT_GLOBAL_METHOD + SNAPSHOT_SEPARATOR + name);
+                    writer.newLine();
+                }
+                for (Entry<String, Collection<String>> entry : methods.typeMethodNames().entrySet())
+                {
+                    writer.write(SNAPSHOT_TYPE_METHOD + SNAPSHOT_SEPARATOR + entry.getKey());
+                    for (String typeName : entry.getValue())
+                    {
+                        writer.write(SNAPSHOT_SEPARATOR + typeName);
+                    }
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            BslPlugin.logError(e);
+        }
+    }
+
+    private static Path getSnapshotFile(Version version)
+    {
+        BslPlugin plugin = BslPlugin.getDefault();
+        if (plugin == null)
+        {
+            return null;
+        }
+        return plugin.getStateLocation()
+            .append(SNAPSHOT_FOLDER)
+            .append(version.toString() + SNAPSHOT_EXTENSION)
+            .toFile()
+            .toPath();
+    }
+
+    private static String getSnapshotHeader()
+    {
+        // platform objects may be changed in other versions of platform support bundle for the same platform version
+        Bundle bundle = FrameworkUtil.getBundle(IEObjectProvider.class);
+        return SNAPSHOT_FORMAT + SNAPSHOT_SEPARATOR + (bundle == null ? "" : bundle.getVersion().toString()); //$NON-NLS-1$
+    }
+
+    /**
+     * The immutable tables of asynchronous methods of the platform version.
+     */
+    private record AsyncMethods(Collection<String> names, Map<String, Collection<String>> typeMethodNames)
+    {
+        private static final AsyncMethods EMPTY = new AsyncMethods(Set.of(), Map.of());
+
+        private static AsyncMethods of(SortedSet<String> names, Map<String, SortedSet<String>> typeMethodNames)
+        {
+            Map<String, Collection<String>> methods = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Entry<String, SortedSet<String>> entry : typeMethodNames.entrySet())
+            {
+                methods.put(entry.getKey(), Collections.unmodifiableSortedSet(entry.getValue()));
+            }
+            return new AsyncMethods(Collections.unmodifiableSortedSet(names), Collections.unmodifiableMap(methods));
+        }
+    }
+
 }
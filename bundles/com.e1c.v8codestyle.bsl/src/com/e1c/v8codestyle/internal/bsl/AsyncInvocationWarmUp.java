@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl;
+
+import com._1c.g5.v8.dt.core.lifecycle.ProjectContext;
+import com._1c.g5.v8.dt.core.platform.IV8Project;
+import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
+import com._1c.g5.v8.dt.lifecycle.LifecycleParticipant;
+import com._1c.g5.v8.dt.lifecycle.LifecyclePhase;
+import com._1c.g5.v8.dt.lifecycle.LifecycleService;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The service that warms up tables of asynchronous methods of platform versions of projects in background,
+ * when V8 projects are loaded, so the first check of a module does not wait for collecting of the tables.
+ *
+ * @author agent
+ */
+@Singleton
+@LifecycleService(name = AsyncInvocationWarmUp.SERVICE_NAME)
+public class AsyncInvocationWarmUp
+{
+    /**
+     * The service name.
+     */
+    public static final String SERVICE_NAME = "AsyncInvocationWarmUp"; //$NON-NLS-1$
+
+    @Inject
+    private AsyncInvocationProvider asyncInvocationProvider;
+
+    @Inject
+    private IV8ProjectManager v8ProjectManager;
+
+    @LifecycleParticipant(phase = LifecyclePhase.RESOURCE_LOADING, dependsOn = { IV8ProjectManager.SERVICE_NAME })
+    public void init(ProjectContext projectContext)
+    {
+        // the V8 project is available at this phase, and collecting of the tables runs in background job
+        IV8Project project = v8ProjectManager.getProject(projectContext.getProject());
+        if (project != null && project.getVersion() != null)
+        {
+            asyncInvocationProvider.warmUp(project.getVersion());
+        }
+    }
+
+}
@@ -21,7 +21,10 @@ import com._1c.g5.v8.dt.bsl.model.BslPackage;
 import com._1c.g5.wiring.InjectorAwareServiceRegistrator;
 import com._1c.g5.wiring.ServiceInitialization;
 import com.e1c.v8codestyle.bsl.IAsyncInvocationProvider;
+import com.e1c.v8codestyle.bsl.IExportMethodCallerIndex;
+import com.e1c.v8codestyle.bsl.IMdHandlerMethodIndex;
 import com.e1c.v8codestyle.bsl.IModuleStructureProvider;
+import com.e1c.v8codestyle.bsl.IQueryExecutionMethodProvider;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 
@@ -133,6 +136,10 @@ public class BslPlugin
             // register services from injector
             registrator.service(IModuleStructureProvider.class).registerInjected();
             registrator.service(IAsyncInvocationProvider.class).registerInjected();
+            registrator.service(IExportMethodCallerIndex.class).registerInjected();
+            registrator.service(IMdHandlerMethodIndex.class).registerInjected();
+            registrator.service(IQueryExecutionMethodProvider.class).registerInjected();
+            registrator.service(AsyncInvocationWarmUp.class).registerInjected();
             registrator.managedService(MultiCheckFixRegistrator.class).activateBeforeRegistration().registerInjected();
         });
     }
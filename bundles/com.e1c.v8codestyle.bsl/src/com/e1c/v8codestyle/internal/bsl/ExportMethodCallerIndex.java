@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl;
+
+import static com.e1c.v8codestyle.bsl.strict.StrictTypeUtil.BSL_FILE_EXTENSION;
+import static org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider.PERSISTED_DESCRIPTIONS;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.findReferences.IReferenceFinder;
+import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess;
+import org.eclipse.xtext.findReferences.TargetURISet;
+import org.eclipse.xtext.findReferences.TargetURIs;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.IResourceDescriptionsProvider;
+
+import com.e1c.v8codestyle.bsl.IExportMethodCallerIndex;
+import com.google.inject.Inject;
+
+/**
+ * The default implementation of export method caller index, that listens for builder deltas of the persisted
+ * resource descriptions and keeps only references between different BSL modules. The references are grouped
+ * by the project of the target method, the index of the project is dropped with the last module of the project.
+ * <p>
+ * If persisted resource descriptions do not support change events the index falls back to the reference finder
+ * query for each method.
+ *
+ * @author agent
+ */
+public class ExportMethodCallerIndex
+    implements IExportMethodCallerIndex, IResourceDescription.Event.Listener
+{
+
+    private final IResourceDescriptionsProvider resourceDescriptionsProvider;
+
+    private final IReferenceFinder referenceFinder;
+
+    private final IResourceAccess workSpaceResourceAccess;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Project name to the index of callers of methods of the project. */
+    private final Map<String, Map<URI, Set<URI>>> callersByProject = new HashMap<>();
+
+    /** Source resource URI to the target method URIs that the resource refers to. */
+    private final Map<URI, Set<URI>> targetsBySource = new HashMap<>();
+
+    private volatile IResourceDescriptions descriptions;
+
+    private volatile boolean incremental;
+
+    /**
+     * Instantiates a new export method caller index.
+     *
+     * @param resourceDescriptionsProvider the resource descriptions provider, cannot be {@code null}.
+     * @param referenceFinder the reference finder, cannot be {@code null}.
+     * @param workSpaceResourceAccess the workspace resource access, cannot be {@code null}.
+     */
+    @Inject
+    public ExportMethodCallerIndex(IResourceDescriptionsProvider resourceDescriptionsProvider,
+        IReferenceFinder referenceFinder, IResourceAccess workSpaceResourceAccess)
+    {
+        this.resourceDescriptionsProvider = resourceDescriptionsProvider;
+        this.referenceFinder = referenceFinder;
+        this.workSpaceResourceAccess = workSpaceResourceAccess;
+    }
+
+    @Override
+    public Set<URI> getCallers(URI methodUri, IProgressMonitor monitor)
+    {
+        IResourceDescriptions index = getDescriptions();
+        if (!incremental)
+        {
+            return findCallers(index, methodUri, false, monitor);
+        }
+
+        lock.readLock().lock();
+        try
+        {
+            Set<URI> callers = getProjectCallers(methodUri);
+            return callers == null ? Set.of() : Set.copyOf(callers);
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean hasCallerInOtherModule(URI methodUri, IProgressMonitor monitor)
+    {
+        IResourceDescriptions index = getDescriptions();
+        if (!incremental)
+        {
+            return !findCallers(index, methodUri, true, monitor).isEmpty();
+        }
+
+        lock.readLock().lock();
+        try
+        {
+            Set<URI> callers = getProjectCallers(methodUri);
+            return callers != null && !callers.isEmpty();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void descriptionsChanged(IResourceDescription.Event event)
+    {
+        lock.writeLock().lock();
+        try
+        {
+            for (IResourceDescription.Delta delta : event.getDeltas())
+            {
+                removeSource(delta.getUri());
+                if (delta.getNew() != null)
+                {
+                    addSource(delta.getNew());
+                }
+            }
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<URI> getProjectCallers(URI methodUri)
+    {
+        Map<URI, Set<URI>> callersByTarget = callersByProject.get(getProjectName(methodUri));
+        return callersByTarget == null ? null : callersByTarget.get(methodUri);
+    }
+
+    private IResourceDescriptions getDescriptions()
+    {
+        IResourceDescriptions localInstance = descriptions;
+        if (localInstance == null)
+        {
+            synchronized (this)
+            {
+                localInstance = descriptions;
+                if (localInstance == null)
+                {
+                    localInstance = createDescriptions();
+                    if (localInstance instanceof IResourceDescription.Event.Source source)
+                    {
+                        lock.writeLock().lock();
+                        try
+                        {
+                            source.addListener(this);
+                            for (IResourceDescription description : localInstance.getAllResourceDescriptions())
+                            {
+                                addSource(description);
+                            }
+                            incremental = true;
+                        }
+                        finally
+                        {
+                            lock.writeLock().unlock();
+                        }
+                    }
+                    descriptions = localInstance;
+                }
+            }
+        }
+        return localInstance;
+    }
+
+    private IResourceDescriptions createDescriptions()
+    {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        //special ResourceSet for checking by saved modules
+        resourceSet.getLoadOptions().put(PERSISTED_DESCRIPTIONS, Boolean.TRUE);
+        return resourceDescriptionsProvider.getResourceDescriptions(resourceSet);
+    }
+
+    private void addSource(IResourceDescription description)
+    {
+        URI sourceUri = description.getURI();
+        for (IReferenceDescription reference : description.getReferenceDescriptions())
+        {
+            URI targetUri = reference.getTargetEObjectUri();
+            URI sourceObjectUri = reference.getSourceEObjectUri();
+            if (isCallFromOtherModule(sourceObjectUri, targetUri))
+            {
+                callersByProject.computeIfAbsent(getProjectName(targetUri), k -> new HashMap<>())
+                    .computeIfAbsent(targetUri, k -> new HashSet<>())
+                    .add(sourceObjectUri);
+                targetsBySource.computeIfAbsent(sourceUri, k -> new HashSet<>()).add(targetUri);
+            }
+        }
+    }
+
+    private void removeSource(URI sourceUri)
+    {
+        Set<URI> targets = targetsBySource.remove(sourceUri);
+        if (targets == null)
+        {
+            return;
+        }
+
+        for (URI targetUri : targets)
+        {
+            String projectName = getProjectName(targetUri);
+            Map<URI, Set<URI>> callersByTarget = callersByProject.get(projectName);
+            if (callersByTarget == null)
+            {
+                continue;
+            }
+            Set<URI> callers = callersByTarget.get(targetUri);
+            if (callers != null)
+            {
+                callers.removeIf(caller -> sourceUri.equals(caller.trimFragment()));
+                if (callers.isEmpty())
+                {
+                    callersByTarget.remove(targetUri);
+                }
+            }
+            if (callersByTarget.isEmpty())
+            {
+                callersByProject.remove(projectName);
+            }
+        }
+    }
+
+    private Set<URI> findCallers(IResourceDescriptions index, URI methodUri, boolean findFirst,
+        IProgressMonitor monitor)
+    {
+        Set<URI> callers = new LinkedHashSet<>();
+        IProgressMonitor subMonitor = new NullProgressMonitor()
+        {
+            @Override
+            public boolean isCanceled()
+            {
+                return super.isCanceled() || monitor.isCanceled();
+            }
+        };
+
+        IReferenceFinder.Acceptor acceptor = new IReferenceFinder.Acceptor()
+        {
+            @Override
+            public void accept(EObject source, URI sourceUri, EReference eReference, int index, EObject targetOrProxy,
+                URI targetUri)
+            {
+                accept(sourceUri, targetUri);
+            }
+
+            @Override
+            public void accept(IReferenceDescription description)
+            {
+                accept(description.getSourceEObjectUri(), description.getTargetEObjectUri());
+            }
+
+            private void accept(URI sourceUri, URI targetUri)
+            {
+                if (!subMonitor.isCanceled() && isCallFromOtherModule(sourceUri, targetUri))
+                {
+                    callers.add(sourceUri);
+                    if (findFirst)
+                    {
+                        subMonitor.setCanceled(true);
+                    }
+                }
+            }
+        };
+
+        TargetURIs targetUris = new TargetURISet()
+        {
+            //
+        };
+        targetUris.addURI(methodUri);
+
+        referenceFinder.findAllReferences(targetUris, workSpaceResourceAccess, index, acceptor, subMonitor);
+
+        return callers.isEmpty() ? Set.of() : Collections.unmodifiableSet(callers);
+    }
+
+    private static String getProjectName(URI uri)
+    {
+        return uri.isPlatformResource() && uri.segmentCount() > 1 ? uri.segment(1) : ""; //$NON-NLS-1$
+    }
+
+    private static boolean isCallFromOtherModule(URI sourceObjectUri, URI targetUri)
+    {
+        return sourceObjectUri != null && targetUri != null && BSL_FILE_EXTENSION.equals(targetUri.fileExtension())
+            && !sourceObjectUri.path().equals(targetUri.path());
+    }
+
+}
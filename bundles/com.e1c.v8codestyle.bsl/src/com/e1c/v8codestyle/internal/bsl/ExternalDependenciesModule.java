@@ -38,6 +38,7 @@ import com._1c.g5.v8.dt.bsl.resource.TypesComputer;
 import com._1c.g5.v8.dt.bsl.services.BslGrammarAccess;
 import com._1c.g5.v8.dt.bsl.stringliteral.contenttypes.IStringLiteralTypeComputer;
 import com._1c.g5.v8.dt.bsl.typesystem.ExportMethodTypeProvider;
+import com._1c.g5.v8.dt.core.model.IModelEditingSupport;
 import com._1c.g5.v8.dt.core.naming.ITopObjectFqnGenerator;
 import com._1c.g5.v8.dt.core.platform.IBmModelManager;
 import com._1c.g5.v8.dt.core.platform.IConfigurationProvider;
@@ -76,6 +77,7 @@ class ExternalDependenciesModule
         bind(IBmModelManager.class).toService();
         bind(INamingService.class).toService();
         bind(ITopObjectFqnGenerator.class).toService();
+        bind(IModelEditingSupport.class).toService();
 
         bind(ICheckRepository.class).toService();
         bind(IFixRepository.class).toService();
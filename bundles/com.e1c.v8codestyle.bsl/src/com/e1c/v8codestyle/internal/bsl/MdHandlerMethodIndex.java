@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import com._1c.g5.v8.bm.core.IBmObject;
+import com._1c.g5.v8.bm.core.IBmTransaction;
+import com._1c.g5.v8.bm.core.event.BmChangeEvent;
+import com._1c.g5.v8.bm.core.event.BmEvent;
+import com._1c.g5.v8.bm.integration.AbstractBmTask;
+import com._1c.g5.v8.bm.integration.IBmModel;
+import com._1c.g5.v8.bm.integration.event.BmEventFilter;
+import com._1c.g5.v8.bm.integration.event.IBmAsyncEventListener;
+import com._1c.g5.v8.dt.common.StringUtils;
+import com._1c.g5.v8.dt.core.platform.IBmModelManager;
+import com._1c.g5.v8.dt.metadata.mdclass.Configuration;
+import com._1c.g5.v8.dt.metadata.mdclass.EventSubscription;
+import com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage;
+import com._1c.g5.v8.dt.metadata.mdclass.ScheduledJob;
+import com.e1c.v8codestyle.bsl.IMdHandlerMethodIndex;
+import com.google.inject.Inject;
+
+/**
+ * The default implementation of the index of scheduled job and event subscription handlers.
+ * The handler names are read once from BM model of the project and are dropped on any change of scheduled jobs
+ * or event subscriptions.
+ *
+ * @author agent
+ */
+public class MdHandlerMethodIndex
+    implements IMdHandlerMethodIndex
+{
+
+    private final IBmModelManager bmModelManager;
+
+    private final BmEventFilter filter = BmEventFilter.eClassChangeFilter(MdClassPackage.Literals.MD_OBJECT);
+
+    private final Map<IBmModel, ProjectHandlers> projectHandlers = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new index of scheduled job and event subscription handlers.
+     *
+     * @param bmModelManager the BM model manager service, cannot be {@code null}.
+     */
+    @Inject
+    public MdHandlerMethodIndex(IBmModelManager bmModelManager)
+    {
+        this.bmModelManager = bmModelManager;
+    }
+
+    @Override
+    public boolean isScheduledJobOrEventSubscriptionHandler(IProject project, String handlerName)
+    {
+        IBmModel model = bmModelManager.getModel(project);
+        if (model == null || model.isDisposed() || StringUtils.isEmpty(handlerName))
+        {
+            return false;
+        }
+
+        projectHandlers.keySet().removeIf(IBmModel::isDisposed);
+        ProjectHandlers handlers = projectHandlers.computeIfAbsent(model, ProjectHandlers::new);
+        return handlers.getNames().contains(handlerName.toLowerCase(Locale.ROOT));
+    }
+
+    private final class ProjectHandlers
+        implements IBmAsyncEventListener
+    {
+
+        private final IBmModel model;
+
+        private final AtomicLong modificationStamp = new AtomicLong();
+
+        private volatile Set<String> names;
+
+        private ProjectHandlers(IBmModel model)
+        {
+            this.model = model;
+            model.addAsyncEventListener(this, filter);
+        }
+
+        private Set<String> getNames()
+        {
+            Set<String> result = names;
+            if (result == null)
+            {
+                long stamp = modificationStamp.get();
+                result = model.executeReadonlyTask(new ReadHandlerNames(), true);
+                if (stamp == modificationStamp.get())
+                {
+                    names = result;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void handleAsyncEvent(BmEvent event)
+        {
+            if (event.getChangeEvents() == null)
+            {
+                return;
+            }
+
+            for (BmChangeEvent changeEvent : event.getChangeEvents().values())
+            {
+                if (isHandlerChange(changeEvent))
+                {
+                    modificationStamp.incrementAndGet();
+                    names = null;
+                    return;
+                }
+            }
+        }
+
+        private boolean isHandlerChange(BmChangeEvent changeEvent)
+        {
+            Object object = changeEvent.getObject();
+            if (object instanceof ScheduledJob || object instanceof EventSubscription)
+            {
+                return true;
+            }
+            else if (object instanceof Configuration)
+            {
+                Set<EStructuralFeature> features = changeEvent.getNotifications().keySet();
+                return features.contains(MdClassPackage.Literals.CONFIGURATION__SCHEDULED_JOBS)
+                    || features.contains(MdClassPackage.Literals.CONFIGURATION__EVENT_SUBSCRIPTIONS);
+            }
+            return false;
+        }
+    }
+
+    private static final class ReadHandlerNames
+        extends AbstractBmTask<Set<String>>
+    {
+
+        private ReadHandlerNames()
+        {
+            super("Read scheduled job and event subscription handlers"); //$NON-NLS-1$
+        }
+
+        @Override
+        public Set<String> execute(IBmTransaction transaction, IProgressMonitor monitor)
+        {
+            Set<String> result = new HashSet<>();
+            for (Iterator<IBmObject> iterator =
+                transaction.getTopObjectIterator(MdClassPackage.Literals.SCHEDULED_JOB); iterator.hasNext();)
+            {
+                IBmObject object = iterator.next();
+                if (object instanceof ScheduledJob job)
+                {
+                    add(result, job.getMethodName());
+                }
+            }
+
+            for (Iterator<IBmObject> iterator =
+                transaction.getTopObjectIterator(MdClassPackage.Literals.EVENT_SUBSCRIPTION); iterator.hasNext();)
+            {
+                IBmObject object = iterator.next();
+                if (object instanceof EventSubscription subscription)
+                {
+                    add(result, subscription.getHandler());
+                }
+            }
+            return Set.copyOf(result);
+        }
+
+        private void add(Set<String> result, String handlerName)
+        {
+            if (StringUtils.isNotEmpty(handlerName))
+            {
+                result.add(handlerName.toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+}
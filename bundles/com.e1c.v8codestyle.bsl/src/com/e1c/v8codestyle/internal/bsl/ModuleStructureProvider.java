@@ -18,27 +18,22 @@ import java.io.InputStream;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Platform;
-import org.eclipse.core.runtime.preferences.ConfigurationScope;
-import org.eclipse.core.runtime.preferences.DefaultScope;
-import org.eclipse.core.runtime.preferences.IScopeContext;
-import org.eclipse.core.runtime.preferences.InstanceScope;
 
 import com._1c.g5.v8.dt.bsl.model.ModuleType;
 import com._1c.g5.v8.dt.metadata.mdclass.ScriptVariant;
+import com.e1c.v8codestyle.PreferenceSnapshot;
 import com.e1c.v8codestyle.bsl.IModuleStructureProvider;
-import com.e1c.v8codestyle.bsl.ModuleStructure;
-import com.google.common.collect.ImmutableSet;
+import com.e1c.v8codestyle.bsl.ModuleStructureRegions;
 
 /**
  * The default implementation of module structure provider.
@@ -57,15 +52,13 @@ public class ModuleStructureProvider
 
     private static final IPath FOLDER_SETTINGS = new org.eclipse.core.runtime.Path(".settings/templates"); //$NON-NLS-1$
 
+    private final Map<StructureKey, ModuleStructureRegions> structures = new ConcurrentHashMap<>();
+
     @Override
     public boolean canCreateStructure(IProject project)
     {
-        ProjectScope scope = new ProjectScope(project);
-        IScopeContext[] contexts =
-            new IScopeContext[] { scope, InstanceScope.INSTANCE, ConfigurationScope.INSTANCE, DefaultScope.INSTANCE };
-
-        return Platform.getPreferencesService()
-            .getBoolean(PREF_QUALIFIER, PREF_KEY_CREATE_STRUCTURE, PREF_DEFAULT_CREATE_STRUCTURE, contexts);
+        return PreferenceSnapshot.get(project, PREF_QUALIFIER)
+            .getBoolean(PREF_KEY_CREATE_STRUCTURE, PREF_DEFAULT_CREATE_STRUCTURE);
     }
 
     @Override
@@ -137,9 +130,17 @@ public class ModuleStructureProvider
     @Override
     public Collection<String> getModuleStructureRegions(ModuleType moduleType, ScriptVariant scriptVariant)
     {
-        return ImmutableSet.copyOf(ModuleStructure.getStructureByType(moduleType)
-            .stream()
-            .map(s -> s.getName(scriptVariant))
-            .collect(Collectors.toList()));
+        return getModuleStructure(moduleType, scriptVariant).getNames();
+    }
+
+    @Override
+    public ModuleStructureRegions getModuleStructure(ModuleType moduleType, ScriptVariant scriptVariant)
+    {
+        return structures.computeIfAbsent(new StructureKey(moduleType, scriptVariant),
+            key -> ModuleStructureRegions.compile(key.moduleType(), key.scriptVariant()));
+    }
+
+    private record StructureKey(ModuleType moduleType, ScriptVariant scriptVariant)
+    {
     }
 }
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com._1c.g5.v8.dt.bm.xtext.BmAwareResourceSetProvider;
+import com._1c.g5.v8.dt.core.platform.IV8Project;
+import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
+import com._1c.g5.v8.dt.mcore.ContextDef;
+import com._1c.g5.v8.dt.mcore.McorePackage;
+import com._1c.g5.v8.dt.mcore.Method;
+import com._1c.g5.v8.dt.mcore.Type;
+import com._1c.g5.v8.dt.platform.IEObjectProvider;
+import com._1c.g5.v8.dt.platform.IEObjectTypeNames;
+import com._1c.g5.v8.dt.platform.version.Version;
+import com.e1c.v8codestyle.bsl.IQueryExecutionMethodProvider;
+import com.google.inject.Inject;
+
+/**
+ * The implementation of {@code Query} type execution methods provider, that caches method names per platform version.
+ *
+ * @author agent
+ */
+public class QueryExecutionMethodProvider
+    implements IQueryExecutionMethodProvider
+{
+
+    private static final String EXECUTE_PREFIX = "Execute"; //$NON-NLS-1$
+
+    private final Map<Version, SortedSet<String>> cacheNames;
+
+    private final IV8ProjectManager v8ProjectManager;
+
+    private final BmAwareResourceSetProvider resourceSetProvider;
+
+    @Inject
+    public QueryExecutionMethodProvider(IV8ProjectManager v8ProjectManager,
+        BmAwareResourceSetProvider resourceSetProvider)
+    {
+        super();
+        this.v8ProjectManager = v8ProjectManager;
+        this.resourceSetProvider = resourceSetProvider;
+        this.cacheNames = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Set<String> getQueryExecutionMethodNames(Version version)
+    {
+        // do not cache empty names if platform types cannot be resolved yet
+        Set<String> names = cacheNames.computeIfAbsent(version, this::collectQueryExecutionMethods);
+        return names == null ? Collections.emptySortedSet() : names;
+    }
+
+    private SortedSet<String> collectQueryExecutionMethods(Version version)
+    {
+        Iterator<IV8Project> iterator = v8ProjectManager.getProjects().iterator();
+        if (!iterator.hasNext())
+        {
+            return null;
+        }
+
+        ResourceSet context = resourceSetProvider.get(iterator.next().getProject());
+        IEObjectProvider provider = IEObjectProvider.Registry.INSTANCE.get(McorePackage.Literals.TYPE_ITEM, version);
+        EObject proxyType = provider.getProxy(IEObjectTypeNames.QUERY);
+        if (!(proxyType instanceof Type))
+        {
+            return null;
+        }
+
+        Type queryType = (Type)EcoreUtil.resolve(proxyType, context);
+        ContextDef contextDef = queryType.getContextDef();
+        if (contextDef == null)
+        {
+            return null;
+        }
+
+        SortedSet<String> queryExecuteMethods = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (Method queryMethod : contextDef.allMethods())
+        {
+            if (queryMethod.getName().startsWith(EXECUTE_PREFIX))
+            {
+                queryExecuteMethods.add(queryMethod.getName());
+                queryExecuteMethods.add(queryMethod.getNameRu());
+            }
+        }
+
+        return Collections.unmodifiableSortedSet(queryExecuteMethods);
+    }
+
+}
@@ -13,7 +13,10 @@
 package com.e1c.v8codestyle.internal.bsl;
 
 import com.e1c.v8codestyle.bsl.IAsyncInvocationProvider;
+import com.e1c.v8codestyle.bsl.IExportMethodCallerIndex;
+import com.e1c.v8codestyle.bsl.IMdHandlerMethodIndex;
 import com.e1c.v8codestyle.bsl.IModuleStructureProvider;
+import com.e1c.v8codestyle.bsl.IQueryExecutionMethodProvider;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 
@@ -30,7 +33,11 @@ public class ServiceModule
     protected void configure()
     {
         bind(IModuleStructureProvider.class).to(ModuleStructureProvider.class).in(Singleton.class);
-        bind(IAsyncInvocationProvider.class).to(AsyncInvocationProvider.class).in(Singleton.class);
+        bind(AsyncInvocationProvider.class).in(Singleton.class);
+        bind(IAsyncInvocationProvider.class).to(AsyncInvocationProvider.class);
+        bind(IExportMethodCallerIndex.class).to(ExportMethodCallerIndex.class).in(Singleton.class);
+        bind(IMdHandlerMethodIndex.class).to(MdHandlerMethodIndex.class).in(Singleton.class);
+        bind(IQueryExecutionMethodProvider.class).to(QueryExecutionMethodProvider.class).in(Singleton.class);
     }
 
 }
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl.cli;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * @author agent
+ *
+ */
+final class Messages
+    extends NLS
+{
+    private static final String BUNDLE_NAME = Messages.class.getPackageName() + ".messages"; //$NON-NLS-1$
+    public static String StrictTypesCommand_Add_strict_types_to_project__0__failed__1;
+    public static String StrictTypesCommand_Add_strict_types_to_project__0__finished__1;
+    public static String StrictTypesCommand_Description;
+    public static String StrictTypesCommand_Project__0__not_found_in_workspace;
+    public static String StrictTypesCommand_Projects;
+    static
+    {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+    private Messages()
+    {
+    }
+}
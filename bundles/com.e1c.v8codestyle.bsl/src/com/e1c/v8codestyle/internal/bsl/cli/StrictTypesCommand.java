@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.bsl.cli;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import com._1c.g5.v8.dt.core.model.EditingMode;
+import com._1c.g5.v8.dt.core.model.IModelEditingSupport;
+import com._1c.g5.v8.dt.core.operations.ProjectPipelineJob;
+import com._1c.g5.v8.dt.core.platform.IDtProject;
+import com.e1c.g5.v8.dt.cli.api.Argument;
+import com.e1c.g5.v8.dt.cli.api.CliCommand;
+import com.e1c.g5.v8.dt.cli.api.components.BaseCliCommand;
+import com.e1c.v8codestyle.bsl.strict.StrictTypeUtil;
+import com.e1c.v8codestyle.internal.bsl.BslPlugin;
+import com.google.inject.Inject;
+
+/**
+ * The CLI command allows to add {@code @strict-types} annotation to all modules of existing projects in workspace.
+ * All modules of the project are updated in one workspace operation, so the project is built once.
+ *
+ * @author agent
+ */
+public class StrictTypesCommand
+    extends BaseCliCommand
+{
+
+    private final IModelEditingSupport modelEditingSupport;
+
+    @Inject
+    public StrictTypesCommand(IModelEditingSupport modelEditingSupport)
+    {
+        this.modelEditingSupport = modelEditingSupport;
+    }
+
+    /**
+     * Adds {@code @strict-types} annotation to modules of projects that are existing in workspace.
+     *
+     * @param projectNames the project names
+     * @return the status of command
+     */
+    @CliCommand(command = "add-strict-types", value = "StrictTypesCommand_Description")
+    public IStatus addStrictTypes(@Argument(value = "--project-name-list", elementType = IProject.class,
+        descriptor = "StrictTypesCommand_Projects") IProject[] projectNames)
+    {
+        if (projectNames == null || projectNames.length == 0)
+        {
+            return Status.OK_STATUS;
+        }
+
+        List<IDtProject> projects = new ArrayList<>();
+        for (IProject project : projectNames)
+        {
+            if (!project.isAccessible())
+            {
+                String error = MessageFormat.format(Messages.StrictTypesCommand_Project__0__not_found_in_workspace,
+                    project.getName());
+                logError(error);
+                return BslPlugin.createErrorStatus(error, null);
+            }
+            waitUntilStarted(project, DT_PROJECT_STARTUP_DURATION);
+            IDtProject dtProject = getContext().getDtProjectManager().getDtProject(project);
+            if (dtProject != null && dtProject.getWorkspaceProject() != null)
+            {
+                projects.add(dtProject);
+            }
+            else
+            {
+                logError(MessageFormat.format(Messages.StrictTypesCommand_Project__0__not_found_in_workspace,
+                    project.getName()));
+            }
+        }
+
+        IStatus result = Status.OK_STATUS;
+        for (IDtProject project : projects)
+        {
+            Collection<IFile> files = getBslFiles(project.getWorkspaceProject());
+            AtomicReference<IStatus> error = new AtomicReference<>();
+            Collection<IFile> updated = exclusiveOperation("Add-strict-types", project, //$NON-NLS-1$
+                ProjectPipelineJob.AFTER_BUILD_DD, () -> {
+                    try
+                    {
+                        return StrictTypeUtil.setStrictTypeAnnotation(files, this::canEdit,
+                            new NullProgressMonitor());
+                    }
+                    catch (CoreException e)
+                    {
+                        error.set(e.getStatus());
+                        return List.of();
+                    }
+                });
+
+            IStatus status = error.get();
+            if (status != null)
+            {
+                String message = MessageFormat.format(
+                    Messages.StrictTypesCommand_Add_strict_types_to_project__0__failed__1, project.getName(),
+                    status.getMessage());
+                logError(message);
+                BslPlugin.log(status);
+                result = BslPlugin.createErrorStatus(message, status.getException());
+                continue;
+            }
+
+            String info = MessageFormat.format(Messages.StrictTypesCommand_Add_strict_types_to_project__0__finished__1,
+                project.getName(), updated == null ? 0 : updated.size());
+            getContext().getLogger().info(info);
+        }
+
+        for (IDtProject project : projects)
+        {
+            // wait here to build project after update, to avoid dropping/stopping project while saving
+            exclusiveOperation("After-Add-strict-types", project, ProjectPipelineJob.AFTER_BUILD_DD, () -> null); //$NON-NLS-1$
+        }
+
+        return result;
+    }
+
+    private boolean canEdit(IFile file)
+    {
+        return modelEditingSupport.canEdit(StrictTypeUtil.createModuleProxy(file), EditingMode.DIRECT);
+    }
+
+    private Collection<IFile> getBslFiles(IProject project)
+    {
+        Collection<IFile> files = new ArrayList<>();
+        try
+        {
+            project.accept(proxy -> {
+                if (proxy.getType() == IResource.FILE)
+                {
+                    if (proxy.getName().endsWith("." + StrictTypeUtil.BSL_FILE_EXTENSION)) //$NON-NLS-1$
+                    {
+                        files.add((IFile)proxy.requestResource());
+                    }
+                    return false;
+                }
+                return true;
+            }, IResource.NONE);
+        }
+        catch (CoreException e)
+        {
+            BslPlugin.log(e.getStatus());
+        }
+        return files;
+    }
+}
@@ -23,7 +23,6 @@ import static com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage.Literals.DOCUMENT
 
 import java.text.MessageFormat;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.ecore.EObject;
@@ -43,6 +42,7 @@ import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.components.TopObjectFilterExtension;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.md.CorePlugin;
 
@@ -197,14 +197,7 @@ public class MdObjectAttributeCommentCheck
 
     private Set<String> getListOfAttributes(ICheckParameters parameters)
     {
-        Set<String> attributes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-
-        String paramAttributesString = parameters.getString(PARAM_ATTRIBUTES_LIST);
-        Set<String> paramsAttributes = Set.of(paramAttributesString.replace(" ", "").split(DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
-
-        attributes.addAll(paramsAttributes);
-
-        return attributes;
+        return CheckParameterCache.getNameSet(parameters, PARAM_ATTRIBUTES_LIST);
     }
 
     private boolean isCatalogAttribute(Object object)
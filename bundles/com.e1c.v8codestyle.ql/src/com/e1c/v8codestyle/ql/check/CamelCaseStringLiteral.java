@@ -28,6 +28,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
 import com.e1c.g5.v8.dt.ql.check.QlBasicDelegateCheck;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.ql.CorePlugin;
 
@@ -84,8 +85,7 @@ public class CamelCaseStringLiteral
             content = content.substring(1, content.length() - 1);
         }
 
-        String skipContentPattern = parameters.getString(PARAMETER_SKIP_CONTENT_PATTERN);
-        if (skipContentPattern != null && content.matches(skipContentPattern))
+        if (CheckParameterCache.matches(parameters, PARAMETER_SKIP_CONTENT_PATTERN, content))
         {
             return;
         }
@@ -25,6 +25,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
 import com.e1c.g5.v8.dt.ql.check.QlBasicDelegateCheck;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.ql.CorePlugin;
 
@@ -85,9 +86,7 @@ public class TempTableHasIndex
         if (selectQuery.getIndexSets().isEmpty())
         {
             AbstractQuerySchemaTable table = selectQuery.getPlacementTable();
-            String excludeTableNamePattern = parameters.getString(PARAMETER_EXCLUDE_TABLE_NAME_PATTERN);
-            if (excludeTableNamePattern != null && !excludeTableNamePattern.isBlank()
-                && table.getFullTableName().matches(excludeTableNamePattern))
+            if (CheckParameterCache.matches(parameters, PARAMETER_EXCLUDE_TABLE_NAME_PATTERN, table.getFullTableName()))
             {
                 return;
             }
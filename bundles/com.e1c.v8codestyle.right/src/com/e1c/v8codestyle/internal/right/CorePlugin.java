@@ -131,7 +131,7 @@ public class CorePlugin
      *
      * @return Guice injector for this plugin, never <code>null</code>
      */
-    /* package */ Injector getInjector()
+    public Injector getInjector()
     {
         Injector localInstance = injector;
         if (localInstance == null)
@@ -153,7 +153,7 @@ public class CorePlugin
     {
         try
         {
-            return Guice.createInjector(new ExternalDependenciesModule(this));
+            return Guice.createInjector(new ServiceModule(), new ExternalDependenciesModule(this));
         }
         catch (Exception e)
         {
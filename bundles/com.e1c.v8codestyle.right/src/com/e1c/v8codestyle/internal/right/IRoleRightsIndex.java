@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.right;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+
+import com._1c.g5.v8.bm.core.IBmTransaction;
+import com._1c.g5.v8.dt.rights.model.RoleDescription;
+
+/**
+ * The per-project index of MD objects by the rights that their {@link EClass} supports.
+ * The index is shared by all role right checks and is updated on adding or removing top MD objects of the project.
+ * The index also keeps roles of the project that are set for new objects.
+ *
+ * @author agent
+ */
+public interface IRoleRightsIndex
+{
+
+    /**
+     * Gets the IDs of MD objects of the project of the context object, which EClass supports the right.
+     * The caller should get the objects by ID in the current transaction.
+     *
+     * @param context the context object of the project, cannot be {@code null}.
+     * @param rightName the name of the right, cannot be {@code null}.
+     * @return the unmodifiable set of BM object IDs in order of the EMF index, cannot return {@code null}.
+     */
+    Set<Long> getObjectsWithRight(EObject context, String rightName);
+
+    /**
+     * Gets the names of the rights that the EClass supports in the project of the context object.
+     *
+     * @param context the context object of the project, cannot be {@code null}.
+     * @param eClass the EClass of MD object, cannot be {@code null}.
+     * @return the unmodifiable set of right names, cannot return {@code null}.
+     */
+    Set<String> getEClassRightNames(EObject context, EClass eClass);
+
+    /**
+     * Gets the IDs of top objects that have non-default value of the right in the role. The role rights are evaluated
+     * for all rights in one sweep over the rights index of the role, and the result is shared by all role right checks
+     * until the role description is changed.
+     *
+     * @param description the role description, cannot be {@code null}.
+     * @param rightName the name of the right, cannot be {@code null}.
+     * @param monitor the progress monitor, cannot be {@code null}.
+     * @return the unmodifiable set of BM object IDs, or empty set if the monitor is canceled,
+     *          cannot return {@code null}.
+     */
+    Set<Long> getRoleObjectsWithRight(RoleDescription description, String rightName, IProgressMonitor monitor);
+
+    /**
+     * Gets the FQNs of role descriptions of the project of the context object, that are set for new objects.
+     * The set is collected once from the transaction and is dropped when role descriptions are added, removed
+     * or their flag of new objects is changed, so the caller should re-check the returned roles in the transaction.
+     *
+     * @param context the context object of the project, cannot be {@code null}.
+     * @param transaction the current BM transaction to collect roles, cannot be {@code null}.
+     * @return the unmodifiable set of FQNs of role descriptions, cannot return {@code null}.
+     */
+    Set<String> getRolesSetForNewObjects(EObject context, IBmTransaction transaction);
+
+}
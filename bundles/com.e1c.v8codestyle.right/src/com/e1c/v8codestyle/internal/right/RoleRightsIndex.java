@@ -0,0 +1,487 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.right;
+
+import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.ROLE_DESCRIPTION;
+import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.ROLE_DESCRIPTION__RIGHTS;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.xtext.resource.IEObjectDescription;
+
+import com._1c.g5.v8.bm.core.IBmObject;
+import com._1c.g5.v8.bm.core.IBmTransaction;
+import com._1c.g5.v8.bm.core.event.BmChangeEvent;
+import com._1c.g5.v8.bm.core.event.BmEvent;
+import com._1c.g5.v8.bm.integration.IBmModel;
+import com._1c.g5.v8.bm.integration.event.BmEventFilter;
+import com._1c.g5.v8.bm.integration.event.IBmAsyncEventListener;
+import com._1c.g5.v8.bm.integration.event.IBmSyncEventListener;
+import com._1c.g5.v8.dt.bm.index.emf.IBmEmfIndexManager;
+import com._1c.g5.v8.dt.bm.index.emf.IBmEmfIndexProvider;
+import com._1c.g5.v8.dt.bm.index.rights.IBmRightsIndexManager;
+import com._1c.g5.v8.dt.bm.index.rights.IRightsDescription;
+import com._1c.g5.v8.dt.core.platform.IBmModelManager;
+import com._1c.g5.v8.dt.core.platform.IResourceLookup;
+import com._1c.g5.v8.dt.mcore.NamedElement;
+import com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage;
+import com._1c.g5.v8.dt.metadata.mdclass.MdObject;
+import com._1c.g5.v8.dt.metadata.mdclass.Role;
+import com._1c.g5.v8.dt.rights.IRightInfosService;
+import com._1c.g5.v8.dt.rights.model.RoleDescription;
+import com._1c.g5.v8.dt.rights.model.util.RightsModelUtil;
+import com.google.inject.Inject;
+
+/**
+ * The default implementation of the index of MD objects by rights. The index of the project is built once
+ * by the EMF index for all supported EClasses and keeps only IDs of objects, the index is dropped when top MD objects
+ * with rights are added or removed in the project.
+ * The rights of a role are evaluated once and are dropped when the role description or its rights are changed.
+ * The roles set for new objects are collected once and are dropped when role descriptions are changed.
+ * Roles are dropped by the synchronous listener in the committing transaction, and the result evaluated while
+ * roles were changed is not kept, so a check cannot keep the rights of the role before the commit.
+ *
+ * @author agent
+ */
+public class RoleRightsIndex
+    implements IRoleRightsIndex
+{
+
+    private final IResourceLookup resourceLookup;
+
+    private final IBmModelManager bmModelManager;
+
+    private final IBmEmfIndexManager bmEmfIndexManager;
+
+    private final IRightInfosService rightInfosService;
+
+    private final IBmRightsIndexManager bmRightsIndexManager;
+
+    private static final Set<EStructuralFeature> ROLE_DESCRIPTION__RIGHTS_ONLY = Set.of(ROLE_DESCRIPTION__RIGHTS);
+
+    private final BmEventFilter filter = BmEventFilter.eClassChangeFilter(MdClassPackage.Literals.MD_OBJECT);
+
+    private final Map<IBmModel, ProjectRights> projectRights = new ConcurrentHashMap<>();
+
+    /** The references that may contain MD objects with rights, by the reference. */
+    private final Map<EReference, Boolean> rightObjectsReferences = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new index of MD objects by rights.
+     *
+     * @param resourceLookup the resource lookup service, cannot be {@code null}.
+     * @param bmModelManager the BM model manager service, cannot be {@code null}.
+     * @param bmEmfIndexManager the BM EMF index manager service, cannot be {@code null}.
+     * @param rightInfosService the right info service, cannot be {@code null}.
+     * @param bmRightsIndexManager the BM rights index manager service, cannot be {@code null}.
+     */
+    @Inject
+    public RoleRightsIndex(IResourceLookup resourceLookup, IBmModelManager bmModelManager,
+        IBmEmfIndexManager bmEmfIndexManager, IRightInfosService rightInfosService,
+        IBmRightsIndexManager bmRightsIndexManager)
+    {
+        this.resourceLookup = resourceLookup;
+        this.bmModelManager = bmModelManager;
+        this.bmEmfIndexManager = bmEmfIndexManager;
+        this.rightInfosService = rightInfosService;
+        this.bmRightsIndexManager = bmRightsIndexManager;
+    }
+
+    @Override
+    public Set<Long> getObjectsWithRight(EObject context, String rightName)
+    {
+        ProjectRights rights = getProjectRights(context);
+        if (rights == null)
+        {
+            return Set.of();
+        }
+        return rights.getObjectsByRight(context).getOrDefault(rightName, Set.of());
+    }
+
+    @Override
+    public Set<String> getEClassRightNames(EObject context, EClass eClass)
+    {
+        ProjectRights rights = getProjectRights(context);
+        if (rights == null)
+        {
+            return computeEClassRightNames(context, eClass);
+        }
+        return rights.eClassRightNames.computeIfAbsent(eClass, e -> computeEClassRightNames(context, e));
+    }
+
+    @Override
+    public Set<Long> getRoleObjectsWithRight(RoleDescription description, String rightName,
+        IProgressMonitor monitor)
+    {
+        ProjectRights rights = getProjectRights(description);
+        if (rights == null)
+        {
+            return Set.of();
+        }
+
+        Map<String, Set<Long>> objectsByRight = rights.getRoleRights(description, monitor);
+        return objectsByRight == null ? Set.of() : objectsByRight.getOrDefault(rightName, Set.of());
+    }
+
+    @Override
+    public Set<String> getRolesSetForNewObjects(EObject context, IBmTransaction transaction)
+    {
+        ProjectRights rights = getProjectRights(context);
+        if (rights == null)
+        {
+            return collectRolesSetForNewObjects(transaction);
+        }
+        return rights.getRolesSetForNewObjects(transaction);
+    }
+
+    private static Set<String> collectRolesSetForNewObjects(IBmTransaction transaction)
+    {
+        Set<String> result = new HashSet<>();
+        for (Iterator<IBmObject> iterator = transaction.getTopObjectIterator(ROLE_DESCRIPTION); iterator.hasNext();)
+        {
+            IBmObject object = iterator.next();
+            if (object instanceof RoleDescription description && description.isSetForNewObjects())
+            {
+                result.add(object.bmGetFqn());
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private ProjectRights getProjectRights(EObject context)
+    {
+        IProject project = resourceLookup.getProject(context);
+        if (project == null)
+        {
+            return null;
+        }
+        IBmModel model = bmModelManager.getModel(project);
+        if (model == null || model.isDisposed())
+        {
+            return null;
+        }
+
+        removeDisposedModels();
+        return projectRights.computeIfAbsent(model, m -> new ProjectRights(m, project));
+    }
+
+    private void removeDisposedModels()
+    {
+        for (Iterator<Entry<IBmModel, ProjectRights>> iterator = projectRights.entrySet().iterator(); iterator
+            .hasNext();)
+        {
+            Entry<IBmModel, ProjectRights> entry = iterator.next();
+            if (entry.getKey().isDisposed())
+            {
+                entry.getValue().dispose();
+                iterator.remove();
+            }
+        }
+    }
+
+    private Set<String> computeEClassRightNames(EObject context, EClass eClass)
+    {
+        return rightInfosService.getEClassRights(context, eClass)
+            .stream()
+            .map(NamedElement::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private boolean isRightObjectsReference(EReference reference)
+    {
+        return rightObjectsReferences.computeIfAbsent(reference, r -> r.isMany()
+            && RightsModelUtil.SUPPORTED_RIGHT_ECLASSES.stream().anyMatch(r.getEReferenceType()::isSuperTypeOf));
+    }
+
+    /**
+     * The fused evaluation of all rights of the role in one sweep over top objects with non-default rights.
+     *
+     * @param roleIndex the rights index of the role, cannot be {@code null}.
+     * @param monitor the progress monitor, cannot be {@code null}.
+     * @return the map of right name to IDs of top objects, or {@code null} if the monitor is canceled.
+     */
+    private static Map<String, Set<Long>> evaluateRoleRights(IRightsDescription roleIndex, IProgressMonitor monitor)
+    {
+        Map<String, Set<Long>> result = new HashMap<>();
+        for (Long objectId : roleIndex.getTopObjectsWithNonDefaultRights())
+        {
+            if (monitor.isCanceled())
+            {
+                return null;
+            }
+            Map<String, Boolean> rights = roleIndex.getRights(objectId);
+            if (rights != null)
+            {
+                for (String rightName : rights.keySet())
+                {
+                    result.computeIfAbsent(rightName, k -> new HashSet<>()).add(objectId);
+                }
+            }
+        }
+        result.replaceAll((rightName, objects) -> Collections.unmodifiableSet(objects));
+        return result;
+    }
+
+    private final class ProjectRights
+        implements IBmAsyncEventListener
+    {
+
+        private final IProject project;
+
+        private final Map<EClass, Set<String>> eClassRightNames = new ConcurrentHashMap<>();
+
+        private final AtomicLong modificationStamp = new AtomicLong();
+
+        /** Right name to IDs of MD objects, IDs are kept instead of objects to not hold them between transactions. */
+        private volatile Map<String, Set<Long>> objectsByRight;
+
+        private final AtomicLong rolesModificationStamp = new AtomicLong();
+
+        private volatile Set<String> rolesSetForNewObjects;
+
+        private final AtomicLong roleRightsModificationStamp = new AtomicLong();
+
+        /** The evaluated rights of the role by ID of the role description. */
+        private final Map<Long, Map<String, Set<Long>>> roleRights = new ConcurrentHashMap<>();
+
+        private final IBmModel model;
+
+        private final String namespace;
+
+        private final RolesListener rolesListener = new RolesListener();
+
+        private ProjectRights(IBmModel model, IProject project)
+        {
+            this.model = model;
+            this.project = project;
+            this.namespace = bmModelManager.getBmNamespace(project);
+            model.addAsyncEventListener(this, filter);
+            bmModelManager.addSyncEventListener(namespace, rolesListener);
+        }
+
+        private void dispose()
+        {
+            bmModelManager.removeSyncEventListener(namespace, rolesListener);
+        }
+
+        private Set<String> getRolesSetForNewObjects(IBmTransaction transaction)
+        {
+            Set<String> result = rolesSetForNewObjects;
+            if (result == null)
+            {
+                long stamp = rolesModificationStamp.get();
+                result = collectRolesSetForNewObjects(transaction);
+                if (stamp == rolesModificationStamp.get())
+                {
+                    rolesSetForNewObjects = result;
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Set<Long>> getRoleRights(RoleDescription description, IProgressMonitor monitor)
+        {
+            long roleId = ((IBmObject)description).bmGetId();
+            Map<String, Set<Long>> result = roleRights.get(roleId);
+            if (result != null)
+            {
+                return result;
+            }
+
+            long stamp = roleRightsModificationStamp.get();
+            Role role = RightsModelUtil.getOwner(description, model);
+            IRightsDescription roleIndex =
+                role == null ? null : bmRightsIndexManager.getRightsIndexProvider(project).getRoleIndex(role);
+            if (roleIndex == null)
+            {
+                return null;
+            }
+
+            result = evaluateRoleRights(roleIndex, monitor);
+            // the canceled partial result is not kept
+            if (result != null && stamp == roleRightsModificationStamp.get())
+            {
+                roleRights.put(roleId, result);
+            }
+            return result;
+        }
+
+        private Map<String, Set<Long>> getObjectsByRight(EObject context)
+        {
+            Map<String, Set<Long>> result = objectsByRight;
+            if (result == null)
+            {
+                long stamp = modificationStamp.get();
+                result = build(context);
+                if (stamp == modificationStamp.get())
+                {
+                    objectsByRight = result;
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Set<Long>> build(EObject context)
+        {
+            Map<String, Set<Long>> result = new HashMap<>();
+
+            IBmEmfIndexProvider bmEmfIndexProvider = bmEmfIndexManager.getEmfIndexProvider(project);
+            for (EClass eClass : RightsModelUtil.SUPPORTED_RIGHT_ECLASSES)
+            {
+                Set<String> rightNames = getEClassRightNames(context, eClass);
+                if (rightNames.isEmpty())
+                {
+                    continue;
+                }
+
+                for (IEObjectDescription objectDescription : bmEmfIndexProvider.getEObjectIndexByType(eClass))
+                {
+                    EObject object = objectDescription.getEObjectOrProxy();
+                    if (object instanceof IBmObject bmObject && object instanceof MdObject)
+                    {
+                        long bmObjectId = bmObject.bmGetId();
+                        for (String rightName : rightNames)
+                        {
+                            result.computeIfAbsent(rightName, k -> new LinkedHashSet<>()).add(bmObjectId);
+                        }
+                    }
+                }
+            }
+
+            result.replaceAll((rightName, objects) -> Collections.unmodifiableSet(objects));
+            return result;
+        }
+
+        @Override
+        public void handleAsyncEvent(BmEvent event)
+        {
+            if (event.getChangeEvents() == null)
+            {
+                return;
+            }
+
+            for (BmChangeEvent changeEvent : event.getChangeEvents().values())
+            {
+                if (isTopObjectAddedOrRemoved(changeEvent))
+                {
+                    modificationStamp.incrementAndGet();
+                    objectsByRight = null;
+                    return;
+                }
+            }
+        }
+
+        private boolean isTopObjectAddedOrRemoved(BmChangeEvent changeEvent)
+        {
+            // top MD objects are added to or removed from the lists of the configuration or of the parent object
+            if (!(changeEvent.getObject() instanceof IBmObject object) || !object.bmIsTop())
+            {
+                return false;
+            }
+
+            for (Entry<EStructuralFeature, List<Notification>> entry : changeEvent.getNotifications().entrySet())
+            {
+                if (!(entry.getKey() instanceof EReference reference) || !isRightObjectsReference(reference))
+                {
+                    continue;
+                }
+
+                for (Notification notification : entry.getValue())
+                {
+                    int eventType = notification.getEventType();
+                    if (eventType == Notification.ADD || eventType == Notification.ADD_MANY
+                        || eventType == Notification.REMOVE || eventType == Notification.REMOVE_MANY)
+                    {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Drops the evaluated rights of roles when a role description or its rights are changed, and drops roles
+         * set for new objects when a role description is added, removed or changed except changes of the rights.
+         * The listener is called in the committing transaction, so the next check sees the dropped roles.
+         */
+        private final class RolesListener
+            implements IBmSyncEventListener
+        {
+            @Override
+            public void handleSyncEvent(BmEvent event)
+            {
+                if (event.getChangeEvents() == null)
+                {
+                    return;
+                }
+
+                boolean rolesChanged = false;
+                for (BmChangeEvent changeEvent : event.getChangeEvents().values())
+                {
+                    if (!isRoleEvent(changeEvent))
+                    {
+                        continue;
+                    }
+                    if (!rolesChanged)
+                    {
+                        rolesChanged = true;
+                        roleRightsModificationStamp.incrementAndGet();
+                        roleRights.clear();
+                    }
+                    if (isRoleChanged(changeEvent))
+                    {
+                        rolesModificationStamp.incrementAndGet();
+                        rolesSetForNewObjects = null;
+                        return;
+                    }
+                }
+            }
+
+            private boolean isRoleEvent(BmChangeEvent changeEvent)
+            {
+                return changeEvent.getObject() instanceof IBmObject object && (object instanceof RoleDescription
+                    || object.bmGetTopObject() instanceof RoleDescription);
+            }
+
+            private boolean isRoleChanged(BmChangeEvent changeEvent)
+            {
+                if (!(changeEvent.getObject() instanceof RoleDescription))
+                {
+                    // changes of object rights inside of the role
+                    return false;
+                }
+                Set<EStructuralFeature> features = changeEvent.getNotifications().keySet();
+                return features.isEmpty() || !ROLE_DESCRIPTION__RIGHTS_ONLY.containsAll(features);
+            }
+        }
+    }
+
+}
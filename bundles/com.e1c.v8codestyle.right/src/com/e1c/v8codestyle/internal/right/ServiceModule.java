@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.right;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
+
+/**
+ * Internal services of the bundle.
+ *
+ * @author agent
+ */
+public class ServiceModule
+    extends AbstractModule
+{
+
+    @Override
+    protected void configure()
+    {
+        bind(IRoleRightsIndex.class).to(RoleRightsIndex.class).in(Singleton.class);
+    }
+
+}
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.right.check;
 
+import java.util.regex.Pattern;
+
 import org.eclipse.xtext.EcoreUtil2;
 
 import com._1c.g5.v8.bm.core.IBmObject;
@@ -25,6 +27,7 @@ import com.e1c.g5.v8.dt.check.ICheckDefinition;
 import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.IBasicCheckExtension;
 import com.e1c.g5.v8.dt.check.ext.ITopObjectFilter;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 
 /**
  * Check extension, exclude roles from check based on RegEx
@@ -84,8 +87,9 @@ public class ExcludeRoleByPatternExtension
     public ITopObjectFilter contributeTopObjectFilter()
     {
         return (IBmObject objectRight, ICheckParameters parameters) -> {
-            final String excludeRoleNamePattern = parameters.getString(EXCLUDE_ROLE_NAME_PATTERN_PARAMETER_NAME);
-            if (excludeRoleNamePattern == null || excludeRoleNamePattern.isBlank())
+            final Pattern excludeRoleNamePattern =
+                CheckParameterCache.getPattern(parameters, EXCLUDE_ROLE_NAME_PATTERN_PARAMETER_NAME);
+            if (excludeRoleNamePattern == null)
             {
                 return true;
             }
@@ -94,7 +98,7 @@ public class ExcludeRoleByPatternExtension
             RoleDescription description = EcoreUtil2.getContainerOfType(objectRight, RoleDescription.class);
             Role role = RightsModelUtil.getOwner(description, model);
 
-            return role == null || !role.getName().matches(excludeRoleNamePattern);
+            return role == null || !excludeRoleNamePattern.matcher(role.getName()).matches();
         };
     }
 }
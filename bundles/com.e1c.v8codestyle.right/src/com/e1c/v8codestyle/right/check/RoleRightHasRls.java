@@ -17,6 +17,7 @@ import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.RLS__CONDITIO
 import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.ROLE_DESCRIPTION;
 
 import java.text.MessageFormat;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -40,6 +41,7 @@ import com.e1c.g5.v8.dt.check.ICheckParameters;
 import com.e1c.g5.v8.dt.check.components.BasicCheck;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
 import com.e1c.v8codestyle.check.StandardCheckExtension;
 import com.e1c.v8codestyle.internal.right.CorePlugin;
 import com.google.inject.Inject;
@@ -93,13 +95,13 @@ public class RoleRightHasRls
 
         if (rls.getCondition() != null && !rls.getCondition().isBlank())
         {
-            String roleNamePattern = parameters.getString(ROLE_NAME_PATTERN_PARAMETER_NAME);
-            if (roleNamePattern != null && !roleNamePattern.isBlank())
+            Pattern roleNamePattern = CheckParameterCache.getPattern(parameters, ROLE_NAME_PATTERN_PARAMETER_NAME);
+            if (roleNamePattern != null)
             {
                 IBmModel model = bmModelManager.getModel(rls);
                 RoleDescription description = EcoreUtil2.getContainerOfType(rls, RoleDescription.class);
                 Role role = RightsModelUtil.getOwner(description, model);
-                if (role == null || !role.getName().matches(roleNamePattern))
+                if (role == null || !roleNamePattern.matcher(role.getName()).matches())
                 {
                     return;
                 }
@@ -109,9 +111,8 @@ public class RoleRightHasRls
             ObjectRights rights = EcoreUtil2.getContainerOfType(right, ObjectRights.class);
             MdObject mdObject = rights.getObject() instanceof MdObject ? (MdObject)rights.getObject() : null;
 
-            String excludeObjectNamePattern = parameters.getString(EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME);
-            if (excludeObjectNamePattern != null && !excludeObjectNamePattern.isBlank() && mdObject != null
-                && mdObject.getName().matches(excludeObjectNamePattern))
+            if (mdObject != null && CheckParameterCache.matches(parameters, EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME,
+                mdObject.getName()))
             {
                 return;
             }
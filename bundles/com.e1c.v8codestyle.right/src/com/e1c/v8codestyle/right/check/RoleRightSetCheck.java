@@ -24,42 +24,34 @@ import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.ROLE_DESCRIPT
 import static com._1c.g5.v8.dt.rights.model.RightsPackage.Literals.ROLE_DESCRIPTION__SET_FOR_NEW_OBJECTS;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.QualifiedName;
-import org.eclipse.xtext.resource.IEObjectDescription;
 
 import com._1c.g5.v8.bm.core.BmUriUtil;
 import com._1c.g5.v8.bm.core.IBmObject;
 import com._1c.g5.v8.bm.core.IBmTransaction;
 import com._1c.g5.v8.bm.integration.IBmModel;
 import com._1c.g5.v8.dt.bm.index.emf.IBmEmfIndexManager;
-import com._1c.g5.v8.dt.bm.index.emf.IBmEmfIndexProvider;
 import com._1c.g5.v8.dt.bm.index.rights.IBmRightsIndexManager;
-import com._1c.g5.v8.dt.bm.index.rights.IBmRightsIndexProvider;
-import com._1c.g5.v8.dt.bm.index.rights.IRightsDescription;
 import com._1c.g5.v8.dt.common.StringUtils;
 import com._1c.g5.v8.dt.core.platform.IBmModelManager;
 import com._1c.g5.v8.dt.core.platform.IExtensionProject;
 import com._1c.g5.v8.dt.core.platform.IResourceLookup;
 import com._1c.g5.v8.dt.core.platform.IV8Project;
 import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
-import com._1c.g5.v8.dt.mcore.NamedElement;
 import com._1c.g5.v8.dt.md.MdUtil;
 import com._1c.g5.v8.dt.metadata.mdclass.Configuration;
 import com._1c.g5.v8.dt.metadata.mdclass.MdObject;
@@ -84,6 +76,9 @@ import com.e1c.g5.v8.dt.check.context.OnModelObjectAssociationContextCollector;
 import com.e1c.g5.v8.dt.check.context.OnModelObjectRemovalContextCollector;
 import com.e1c.g5.v8.dt.check.settings.IssueSeverity;
 import com.e1c.g5.v8.dt.check.settings.IssueType;
+import com.e1c.v8codestyle.check.CheckParameterCache;
+import com.e1c.v8codestyle.internal.right.CorePlugin;
+import com.e1c.v8codestyle.internal.right.IRoleRightsIndex;
 
 /**
  * Abstract check that role has some right for any object.
@@ -107,39 +102,35 @@ public abstract class RoleRightSetCheck
     extends BasicCheck<Object>
 {
 
-    protected static final String EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME = "excludeObjectNamePattern"; //$NON-NLS-1$
+    private static final String CONFIGURATION_FQN = "Configuration"; //$NON-NLS-1$
 
-    private final IResourceLookup resourceLookup;
+    protected static final String EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME = "excludeObjectNamePattern"; //$NON-NLS-1$
 
     private final IV8ProjectManager v8ProjectManager;
 
     private final IBmModelManager bmModelManager;
 
-    private final IBmRightsIndexManager bmRightsIndexManager;
-
-    private final IBmEmfIndexManager bmEmfIndexManager;
-
-    private final IRightInfosService rightInfosService;
+    private volatile IRoleRightsIndex roleRightsIndex;
 
     /**
      * Creates new instance which helps to check that role has specified right for an object.
+     * <br>
+     * The MD objects with rights are taken from the shared index of the plug-in, so the resource lookup,
+     * the BM rights and EMF index managers and the right info service are not used anymore.
      *
+     * @param resourceLookup the resource lookup service, not used.
      * @param v8ProjectManager the V8 project manager, cannot be {@code null}.
      * @param bmModelManager  the BM model manager, cannot be {@code null}.
-     * @param bmRightsIndexProvider the BM rights index provider, cannot be {@code null}.
-     * @param bmEmfIndexProvider the BM EMF index provider, cannot be {@code null}.
-     * @param rightInfosService the right info service, cannot be {@code null}.
+     * @param bmRightsIndexManager the BM rights index manager, not used.
+     * @param bmEmfIndexManager the BM EMF index manager, not used.
+     * @param rightInfosService the right info service, not used.
      */
     protected RoleRightSetCheck(IResourceLookup resourceLookup, IV8ProjectManager v8ProjectManager,
         IBmModelManager bmModelManager, IBmRightsIndexManager bmRightsIndexManager,
         IBmEmfIndexManager bmEmfIndexManager, IRightInfosService rightInfosService)
     {
-        this.resourceLookup = resourceLookup;
         this.v8ProjectManager = v8ProjectManager;
         this.bmModelManager = bmModelManager;
-        this.bmRightsIndexManager = bmRightsIndexManager;
-        this.bmEmfIndexManager = bmEmfIndexManager;
-        this.rightInfosService = rightInfosService;
     }
 
     @Override
@@ -193,6 +184,18 @@ public abstract class RoleRightSetCheck
         return bmModelManager;
     }
 
+    private IRoleRightsIndex getRoleRightsIndex()
+    {
+        IRoleRightsIndex index = roleRightsIndex;
+        if (index == null)
+        {
+            // the index is internal service of the plug-in, so it is not a parameter of the constructor
+            index = CorePlugin.getDefault().getInjector().getInstance(IRoleRightsIndex.class);
+            roleRightsIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Gets the object right name that need to check that exist in role rights.
      *
@@ -246,9 +249,8 @@ public abstract class RoleRightSetCheck
             }
             if (needCheckObjectRight())
             {
-                String excludeObjectNamePattern = parameters.getString(EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME);
-                if (excludeObjectNamePattern != null && !excludeObjectNamePattern.isBlank()
-                    && mdObject.getName().matches(excludeObjectNamePattern))
+                if (CheckParameterCache.matches(parameters, EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME,
+                    mdObject.getName()))
                 {
                     continue;
                 }
@@ -304,9 +306,7 @@ public abstract class RoleRightSetCheck
 
         if (needCheckObjectRight())
         {
-            String excludeObjectNamePattern = parameters.getString(EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME);
-            if (excludeObjectNamePattern != null && !excludeObjectNamePattern.isBlank()
-                && mdObject.getName().matches(excludeObjectNamePattern))
+            if (CheckParameterCache.matches(parameters, EXCLUDE_OBJECT_NAME_PATTERN_PARAMETER_NAME, mdObject.getName()))
             {
                 return;
             }
@@ -361,90 +361,32 @@ public abstract class RoleRightSetCheck
 
     private Collection<MdObject> getDefaultObjectsWithRight(RoleDescription description, IProgressMonitor monitor)
     {
-        IProject project = resourceLookup.getProject(description);
+        // rights of the role are evaluated once for all role right checks
+        Set<Long> objectIdForRole =
+            getRoleRightsIndex().getRoleObjectsWithRight(description, getRightName().getName(), monitor);
 
-        Set<Long> objectIdForRole = getRoleTopObjects(project, description, monitor);
-        if (monitor.isCanceled())
+        IBmTransaction transaction = ((IBmObject)description).bmGetTransaction();
+        if (transaction == null || monitor.isCanceled())
         {
             return Collections.emptyList();
         }
 
-        // return only unique objects
-        Map<Long, MdObject> result = new HashMap<>();
-
-        IBmEmfIndexProvider bmEmfIndexProvider = bmEmfIndexManager.getEmfIndexProvider(project);
-        RightsModelUtil.SUPPORTED_RIGHT_ECLASSES.stream().forEach(eClass -> {
-
-            //  filter class that can't have needed right
-            if (!hasRight(eClass, description))
-            {
-                return;
-            }
-
-            for (Iterator<IEObjectDescription> iterator =
-                bmEmfIndexProvider.getEObjectIndexByType(eClass).iterator(); iterator.hasNext();)
-            {
-                if (monitor.isCanceled())
-                {
-                    return;
-                }
-                IEObjectDescription objectDescription = iterator.next();
-                EObject object = objectDescription.getEObjectOrProxy();
-                if (object instanceof IBmObject && object instanceof MdObject)
-                {
-                    final long bmObjectId = ((IBmObject)object).bmGetId();
-
-                    if (!objectIdForRole.contains(bmObjectId))
-                    {
-                        result.put(bmObjectId, (MdObject)object);
-                    }
-                }
-            }
-        });
-        return result.values();
-    }
-
-    private Set<Long> getRoleTopObjects(IProject project, RoleDescription description, IProgressMonitor monitor)
-    {
-        IBmModel model = bmModelManager.getModel(description);
-
-        Role role = RightsModelUtil.getOwner(description, model);
-
-        IBmRightsIndexProvider bmRightsIndexProvider = bmRightsIndexManager.getRightsIndexProvider(project);
-        IRightsDescription roleIndex = bmRightsIndexProvider.getRoleIndex(role);
-
-        if (roleIndex == null)
-        {
-            return Collections.emptySet();
-        }
-
-        Set<Long> result = new HashSet<>();
-
-        Set<Long> topObjects = roleIndex.getTopObjectsWithNonDefaultRights();
-        String rightName = getRightName().getName();
-
-        for (Long objectId : topObjects)
+        // the index contains only unique objects which EClass supports the right
+        List<MdObject> result = new ArrayList<>();
+        for (Long objectId : getRoleRightsIndex().getObjectsWithRight(description, getRightName().getName()))
         {
             if (monitor.isCanceled())
             {
-                return Collections.emptySet();
+                return Collections.emptyList();
             }
-            Map<String, Boolean> rights = roleIndex.getRights(objectId);
-            if (rights != null && rights.containsKey(rightName))
+            if (!objectIdForRole.contains(objectId) && transaction.getObjectById(objectId) instanceof MdObject mdObject)
             {
-                result.add(objectId);
+                result.add(mdObject);
             }
         }
         return result;
     }
 
-    private boolean hasRight(EClass eClass, EObject context)
-    {
-        Set<Right> rights = rightInfosService.getEClassRights(context, eClass);
-        Set<String> rightNames = rights.stream().map(NamedElement::getName).collect(Collectors.toSet());
-        return rightNames.contains(getRightName().getName());
-    }
-
     private boolean skipCheck(MdObject mdObject, IV8Project v8Project, Role role, ObjectRights objectRights)
     {
         // Role always 'Allow all except... ' (role.isSetForNewObjects() == true)
@@ -499,6 +441,25 @@ public abstract class RoleRightSetCheck
     private final class CombinedChangeExtension
         implements IBasicCheckExtension
     {
+
+        private static final int MAX_SCHEDULED_TRANSACTIONS = 64;
+
+        /**
+         * Transactions for which all roles with SetForNewObjects are already scheduled, keyed by the configuration
+         * top object and the transaction id, the eldest ones are evicted above {@link #MAX_SCHEDULED_TRANSACTIONS}.
+         */
+        private final Map<ScheduledTransaction, Boolean> scheduledTransactions =
+            Collections.synchronizedMap(new LinkedHashMap<ScheduledTransaction, Boolean>()
+            {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScheduledTransaction, Boolean> eldest)
+                {
+                    return size() > MAX_SCHEDULED_TRANSACTIONS;
+                }
+            });
+
         @Override
         public void configureContextCollector(ICheckDefinition definition)
         {
@@ -573,19 +534,31 @@ public abstract class RoleRightSetCheck
         private void scheduleFullCheckForAllRoles(EClass eClass, IBmTransaction transaction,
             CheckContextCollectingSession contextSession)
         {
-            if (transaction != null && RightsModelUtil.SUPPORTED_RIGHT_ECLASSES.contains(eClass))
+            if (transaction == null || !RightsModelUtil.SUPPORTED_RIGHT_ECLASSES.contains(eClass))
+            {
+                return;
+            }
+
+            IBmObject context = transaction.getTopObjectByFqn(CONFIGURATION_FQN);
+            if (context == null || scheduledTransactions.put(
+                new ScheduledTransaction(context.bmGetId(), transaction.getId()), Boolean.TRUE) != null)
+            {
+                // all roles already scheduled for other top objects of the same transaction
+                return;
+            }
+            for (String fqn : getRoleRightsIndex().getRolesSetForNewObjects(context, transaction))
             {
-                for (Iterator<IBmObject> iterator = transaction.getTopObjectIterator(ROLE_DESCRIPTION); iterator
-                    .hasNext();)
+                IBmObject object = transaction.getTopObjectByFqn(fqn);
+                if (object instanceof RoleDescription && ((RoleDescription)object).isSetForNewObjects())
                 {
-                    IBmObject object = iterator.next();
-                    if (object instanceof RoleDescription && ((RoleDescription)object).isSetForNewObjects())
-                    {
-                        contextSession.addFullCheck(object);
-                    }
+                    contextSession.addFullCheck(object);
                 }
             }
         }
     }
 
+    private record ScheduledTransaction(long configurationId, long transactionId)
+    {
+    }
+
 }
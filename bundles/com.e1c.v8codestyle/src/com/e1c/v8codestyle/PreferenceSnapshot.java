@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.runtime.preferences.ConfigurationScope;
+import org.eclipse.core.runtime.preferences.DefaultScope;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.INodeChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.osgi.service.prefs.BackingStoreException;
+import org.osgi.service.prefs.Preferences;
+
+import com.e1c.v8codestyle.internal.CorePlugin;
+
+/**
+ * The immutable snapshot of preferences of the project for the preference qualifier.
+ * The snapshot contains values of the project, instance, configuration and default scopes resolved in this
+ * lookup order, and separately values of the project scope only. Values of child nodes are stored by the path
+ * {@code "child/key"}.
+ * <p>
+ * The snapshot is cached for the project and is rebuilt only after preference change events of the project,
+ * instance or configuration scopes, so hot-path lookups do not go through the preferences service.
+ * Snapshots of the project are removed with {@link #remove(IProject)} when the project is closed or deleted.
+ *
+ * @author agent
+ */
+public final class PreferenceSnapshot
+{
+
+    private static final String PATH_SEPARATOR = "/"; //$NON-NLS-1$
+
+    private static final Map<SnapshotKey, SnapshotListener> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private final Map<String, String> values;
+
+    private final Map<String, String> projectValues;
+
+    /**
+     * Gets the current snapshot of preferences of the project for the qualifier.
+     *
+     * @param project the project, cannot be {@code null}.
+     * @param qualifier the preference qualifier, cannot be {@code null}.
+     * @return the snapshot of preferences, cannot return {@code null}.
+     */
+    public static PreferenceSnapshot get(IProject project, String qualifier)
+    {
+        SnapshotKey key = new SnapshotKey(project, qualifier);
+        SnapshotListener current = SNAPSHOTS.get(key);
+        if (current != null)
+        {
+            return current.getSnapshot();
+        }
+
+        SnapshotListener listener = new SnapshotListener(key);
+        PreferenceSnapshot snapshot = listener.build();
+        SnapshotListener existing = SNAPSHOTS.putIfAbsent(key, listener);
+        if (existing != null)
+        {
+            listener.dispose();
+        }
+        else if (listener.isChanged())
+        {
+            // preferences changed while snapshot was building, so do not keep it
+            SNAPSHOTS.remove(key, listener);
+            listener.dispose();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes all snapshots of the project and unregisters their preference listeners.
+     * Should be called when the project is closed or deleted.
+     *
+     * @param project the project, cannot be {@code null}.
+     */
+    public static void remove(IProject project)
+    {
+        for (Map.Entry<SnapshotKey, SnapshotListener> entry : SNAPSHOTS.entrySet())
+        {
+            if (project.equals(entry.getKey().project()) && SNAPSHOTS.remove(entry.getKey(), entry.getValue()))
+            {
+                entry.getValue().dispose();
+            }
+        }
+    }
+
+    /**
+     * Removes all snapshots and unregisters their preference listeners.
+     */
+    public static void clear()
+    {
+        for (Map.Entry<SnapshotKey, SnapshotListener> entry : SNAPSHOTS.entrySet())
+        {
+            if (SNAPSHOTS.remove(entry.getKey(), entry.getValue()))
+            {
+                entry.getValue().dispose();
+            }
+        }
+    }
+
+    private PreferenceSnapshot(Map<String, String> values, Map<String, String> projectValues)
+    {
+        this.values = Map.copyOf(values);
+        this.projectValues = Map.copyOf(projectValues);
+    }
+
+    /**
+     * Gets the boolean value by the key in lookup order of project, instance, configuration and default scopes,
+     * that is the same as {@link org.eclipse.core.runtime.preferences.IPreferencesService#getBoolean}.
+     *
+     * @param key the key of preference, cannot be {@code null}.
+     * @param defaultValue the default value
+     * @return the value of preference, or the default value if it is not set in any scope
+     */
+    public boolean getBoolean(String key, boolean defaultValue)
+    {
+        String value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Gets the boolean value by the key in the project scope only, that is the same as
+     * {@link Preferences#getBoolean(String, boolean)} of the project node.
+     *
+     * @param key the key of preference, cannot be {@code null}.
+     * @param defaultValue the default value
+     * @return the value of preference, or the default value if it is not set in the project scope
+     */
+    public boolean getProjectBoolean(String key, boolean defaultValue)
+    {
+        String value = projectValues.get(key);
+        if ("true".equalsIgnoreCase(value)) //$NON-NLS-1$
+        {
+            return true;
+        }
+        else if ("false".equalsIgnoreCase(value)) //$NON-NLS-1$
+        {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Gets the boolean value by the key of the child node in the project scope only, that is the same as
+     * {@link Preferences#getBoolean(String, boolean)} of the child node of the project node.
+     *
+     * @param child the name of the child node, cannot be {@code null}.
+     * @param key the key of preference, cannot be {@code null}.
+     * @param defaultValue the default value
+     * @return the value of preference, or the default value if it is not set in the project scope
+     */
+    public boolean getProjectBoolean(String child, String key, boolean defaultValue)
+    {
+        return getProjectBoolean(child + PATH_SEPARATOR + key, defaultValue);
+    }
+
+    private static void collect(Preferences node, String path, Map<String, String> result)
+        throws BackingStoreException
+    {
+        for (String key : node.keys())
+        {
+            result.put(path + key, node.get(key, null));
+        }
+        for (String child : node.childrenNames())
+        {
+            collect(node.node(child), path + child + PATH_SEPARATOR, result);
+        }
+    }
+
+    private record SnapshotKey(IProject project, String qualifier)
+    {
+    }
+
+    /**
+     * Listener of all nodes of the snapshot, that drops the snapshot on any change and unregisters itself.
+     */
+    private static final class SnapshotListener
+        implements IPreferenceChangeListener, INodeChangeListener
+    {
+
+        private final SnapshotKey key;
+
+        private final List<IEclipsePreferences> nodes = new CopyOnWriteArrayList<>();
+
+        private volatile boolean changed;
+
+        private PreferenceSnapshot snapshot;
+
+        private SnapshotListener(SnapshotKey key)
+        {
+            this.key = key;
+        }
+
+        private PreferenceSnapshot getSnapshot()
+        {
+            return snapshot;
+        }
+
+        private PreferenceSnapshot build()
+        {
+            IEclipsePreferences projectNode = new ProjectScope(key.project()).getNode(key.qualifier());
+            IEclipsePreferences[] lookupOrder = { projectNode, InstanceScope.INSTANCE.getNode(key.qualifier()),
+                ConfigurationScope.INSTANCE.getNode(key.qualifier()), DefaultScope.INSTANCE.getNode(key.qualifier()) };
+
+            // listen before reading values to not miss changes
+            if (projectNode.parent() instanceof IEclipsePreferences projectRoot)
+            {
+                projectRoot.addNodeChangeListener(this);
+                nodes.add(projectRoot);
+            }
+            for (int i = 0; i < lookupOrder.length - 1; i++)
+            {
+                listen(lookupOrder[i]);
+            }
+
+            Map<String, String> values = new HashMap<>();
+            Map<String, String> projectValues = new HashMap<>();
+            try
+            {
+                for (int i = lookupOrder.length - 1; i >= 0; i--)
+                {
+                    collect(lookupOrder[i], "", values); //$NON-NLS-1$
+                }
+                collect(projectNode, "", projectValues); //$NON-NLS-1$
+            }
+            catch (BackingStoreException e)
+            {
+                CorePlugin.logError(e);
+                changed = true;
+            }
+            catch (IllegalStateException e)
+            {
+                // the node is removed while reading
+                changed = true;
+            }
+            snapshot = new PreferenceSnapshot(values, projectValues);
+            return snapshot;
+        }
+
+        private void listen(IEclipsePreferences node)
+        {
+            node.addPreferenceChangeListener(this);
+            node.addNodeChangeListener(this);
+            nodes.add(node);
+            try
+            {
+                for (String child : node.childrenNames())
+                {
+                    if (node.node(child) instanceof IEclipsePreferences childNode)
+                    {
+                        listen(childNode);
+                    }
+                }
+            }
+            catch (BackingStoreException e)
+            {
+                CorePlugin.logError(e);
+            }
+        }
+
+        private boolean isChanged()
+        {
+            return changed;
+        }
+
+        @Override
+        public void preferenceChange(PreferenceChangeEvent event)
+        {
+            invalidate();
+        }
+
+        @Override
+        public void added(NodeChangeEvent event)
+        {
+            invalidate();
+        }
+
+        @Override
+        public void removed(NodeChangeEvent event)
+        {
+            invalidate();
+        }
+
+        private void invalidate()
+        {
+            changed = true;
+            SNAPSHOTS.remove(key, this);
+            dispose();
+        }
+
+        private void dispose()
+        {
+            for (IEclipsePreferences node : nodes)
+            {
+                try
+                {
+                    node.removePreferenceChangeListener(this);
+                    node.removeNodeChangeListener(this);
+                }
+                catch (IllegalStateException e)
+                {
+                    // the node is already removed
+                }
+            }
+            nodes.clear();
+        }
+    }
+
+}
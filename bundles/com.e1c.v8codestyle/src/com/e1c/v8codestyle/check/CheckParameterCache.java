@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.check;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.e1c.g5.v8.dt.check.ICheckParameters;
+
+/**
+ * The cache of compiled values of check parameters. The regular expression parameters are compiled to
+ * {@link Pattern} and the comma separated list parameters are split to the case-insensitive set of names.
+ * The values are memoized by the raw string of the parameter, so checks do not re-parse parameters
+ * for each checked object.
+ *
+ * @author agent
+ */
+public final class CheckParameterCache
+{
+
+    private static final String LIST_DELIMITER = ","; //$NON-NLS-1$
+
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private static final Map<String, SortedSet<String>> NAME_SETS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the compiled pattern of the check parameter.
+     *
+     * @param parameters the check parameters, cannot be {@code null}.
+     * @param parameterName the name of the parameter, cannot be {@code null}.
+     * @return the compiled pattern, or {@code null} if the parameter is empty
+     * @throws java.util.regex.PatternSyntaxException if the parameter is not a valid regular expression
+     */
+    public static Pattern getPattern(ICheckParameters parameters, String parameterName)
+    {
+        return getPattern(parameters.getString(parameterName));
+    }
+
+    /**
+     * Gets the compiled pattern of the regular expression.
+     *
+     * @param regex the regular expression, can be {@code null}.
+     * @return the compiled pattern, or {@code null} if the regular expression is empty
+     * @throws java.util.regex.PatternSyntaxException if the expression is not a valid regular expression
+     */
+    public static Pattern getPattern(String regex)
+    {
+        if (regex == null || regex.isBlank())
+        {
+            return null;
+        }
+        return get(PATTERNS, regex, Pattern::compile);
+    }
+
+    /**
+     * Checks if the whole input matches the regular expression of the check parameter, that is the same as
+     * {@link String#matches(String)} with the compiled pattern.
+     *
+     * @param parameters the check parameters, cannot be {@code null}.
+     * @param parameterName the name of the parameter, cannot be {@code null}.
+     * @param input the input to match, can be {@code null}.
+     * @return true, if the parameter is not empty and the input matches it
+     */
+    public static boolean matches(ICheckParameters parameters, String parameterName, CharSequence input)
+    {
+        Pattern pattern = getPattern(parameters, parameterName);
+        return pattern != null && input != null && pattern.matcher(input).matches();
+    }
+
+    /**
+     * Gets the case-insensitive set of names from the comma separated list of the check parameter.
+     * Spaces are removed from the names and the empty names are skipped.
+     *
+     * @param parameters the check parameters, cannot be {@code null}.
+     * @param parameterName the name of the parameter, cannot be {@code null}.
+     * @return the unmodifiable case-insensitive set of names, cannot return {@code null}.
+     */
+    public static Set<String> getNameSet(ICheckParameters parameters, String parameterName)
+    {
+        return getNameSet(parameters.getString(parameterName));
+    }
+
+    /**
+     * Gets the case-insensitive set of names from the comma separated list.
+     * Spaces are removed from the names and the empty names are skipped.
+     *
+     * @param list the comma separated list of names, can be {@code null}.
+     * @return the unmodifiable case-insensitive set of names, cannot return {@code null}.
+     */
+    public static Set<String> getNameSet(String list)
+    {
+        if (list == null)
+        {
+            return Collections.emptySortedSet();
+        }
+        return get(NAME_SETS, list, CheckParameterCache::createNameSet);
+    }
+
+    private static SortedSet<String> createNameSet(String list)
+    {
+        SortedSet<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String name : list.replace(" ", "").split(LIST_DELIMITER)) //$NON-NLS-1$ //$NON-NLS-2$
+        {
+            if (!name.isEmpty())
+            {
+                result.add(name);
+            }
+        }
+        return Collections.unmodifiableSortedSet(result);
+    }
+
+    private static <T> T get(Map<String, T> cache, String key, Function<String, T> factory)
+    {
+        T value = cache.get(key);
+        if (value == null)
+        {
+            if (cache.size() > MAX_CACHE_SIZE)
+            {
+                // parameters are edited by user rarely, so just drop all outdated values
+                cache.clear();
+            }
+            value = cache.computeIfAbsent(key, factory);
+        }
+        return value;
+    }
+
+    private CheckParameterCache()
+    {
+        throw new IllegalAccessError();
+    }
+
+}
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.osgi.service.prefs.BackingStoreException;
 
+import com.e1c.v8codestyle.PreferenceSnapshot;
 import com.e1c.v8codestyle.internal.CorePlugin;
 
 /**
@@ -69,12 +70,8 @@ public final class CheckUtils
      */
     public static boolean isStandardCheckEnable(IProject project)
     {
-        ProjectScope scope = new ProjectScope(project);
-        IScopeContext[] contexts =
-            new IScopeContext[] { scope, InstanceScope.INSTANCE, ConfigurationScope.INSTANCE, DefaultScope.INSTANCE };
-
-        return Platform.getPreferencesService()
-            .getBoolean(PREF_QUALIFIER, PREF_KEY_STANDARD_CHECKS, PREF_DEFAULT_STANDARD_CHECKS, contexts);
+        return PreferenceSnapshot.get(project, PREF_QUALIFIER)
+            .getBoolean(PREF_KEY_STANDARD_CHECKS, PREF_DEFAULT_STANDARD_CHECKS);
     }
 
     /**
@@ -107,12 +104,8 @@ public final class CheckUtils
      */
     public static boolean isCommonCheckEnable(IProject project)
     {
-        ProjectScope scope = new ProjectScope(project);
-        IScopeContext[] contexts =
-            new IScopeContext[] { scope, InstanceScope.INSTANCE, ConfigurationScope.INSTANCE, DefaultScope.INSTANCE };
-
-        return Platform.getPreferencesService()
-            .getBoolean(PREF_QUALIFIER, PREF_KEY_COMMON_CHECKS, PREF_DEFAULT_COMMON_CHECKS, contexts);
+        return PreferenceSnapshot.get(project, PREF_QUALIFIER)
+            .getBoolean(PREF_KEY_COMMON_CHECKS, PREF_DEFAULT_COMMON_CHECKS);
     }
 
     /**
@@ -12,6 +12,10 @@
  *******************************************************************************/
 package com.e1c.v8codestyle.internal;
 
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
@@ -20,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import com._1c.g5.wiring.InjectorAwareServiceRegistrator;
 import com._1c.g5.wiring.ServiceInitialization;
 import com.e1c.v8codestyle.IProjectOptionManager;
+import com.e1c.v8codestyle.PreferenceSnapshot;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 
@@ -40,6 +45,8 @@ public class CorePlugin
 
     private InjectorAwareServiceRegistrator registrator;
 
+    private final IResourceChangeListener projectCloseListener = this::projectClosed;
+
     /**
      * Returns the shared instance
      *
@@ -116,6 +123,10 @@ public class CorePlugin
 
         plugin = this;
 
+        ResourcesPlugin.getWorkspace()
+            .addResourceChangeListener(projectCloseListener,
+                IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+
         registrator = new InjectorAwareServiceRegistrator(bundleContext, this::getInjector);
         ServiceInitialization.schedule(() -> {
             try
@@ -139,6 +150,9 @@ public class CorePlugin
         registrator.deactivateManagedServices(this);
         registrator.unregisterServices();
 
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(projectCloseListener);
+        PreferenceSnapshot.clear();
+
         plugin = null;
         injector = null;
 
@@ -168,6 +182,14 @@ public class CorePlugin
         return localInstance;
     }
 
+    private void projectClosed(IResourceChangeEvent event)
+    {
+        if (event.getResource() instanceof IProject project)
+        {
+            PreferenceSnapshot.remove(project);
+        }
+    }
+
     private Injector createInjector()
     {
         try
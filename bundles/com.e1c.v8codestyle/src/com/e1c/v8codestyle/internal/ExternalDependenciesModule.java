@@ -14,7 +14,9 @@ package com.e1c.v8codestyle.internal;
 
 import org.eclipse.core.runtime.Plugin;
 
+import com._1c.g5.v8.dt.validation.marker.IMarkerManager;
 import com._1c.g5.wiring.AbstractServiceAwareModule;
+import com.e1c.g5.v8.dt.check.ICheckScheduler;
 import com.e1c.g5.v8.dt.check.settings.ICheckRepository;
 
 /**
@@ -39,6 +41,8 @@ public class ExternalDependenciesModule
     protected void doConfigure()
     {
         bind(ICheckRepository.class).toService();
+        bind(IMarkerManager.class).toService();
+        bind(ICheckScheduler.class).toService();
     }
 
 }
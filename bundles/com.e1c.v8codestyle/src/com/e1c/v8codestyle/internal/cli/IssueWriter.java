@@ -0,0 +1,387 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.cli;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The thread-safe writer of validation issues to the machine-readable output. Each issue is written and flushed
+ * immediately, so the consumer of the output receives issues while other projects are still validating.
+ *
+ * @author agent
+ */
+public abstract class IssueWriter
+    implements Closeable
+{
+
+    /** The JSON Lines format, where each issue and each project summary is a separate JSON object in a line. */
+    public static final String FORMAT_JSON_LINES = "jsonl"; //$NON-NLS-1$
+
+    /** The SARIF 2.1.0 format, where issues are streamed to results of the single run. */
+    public static final String FORMAT_SARIF = "sarif"; //$NON-NLS-1$
+
+    private final Writer writer;
+
+    private final boolean closeWriter;
+
+    /**
+     * Creates the writer of issues in the format.
+     *
+     * @param format the format of output, {@code null} means {@link #FORMAT_JSON_LINES}.
+     * @param output the path to the output file, {@code null} means standard output.
+     * @return the new writer of issues, cannot return {@code null}.
+     * @throws IOException if the output file cannot be opened
+     */
+    public static IssueWriter create(String format, Path output) throws IOException
+    {
+        Writer writer;
+        boolean closeWriter;
+        if (output == null)
+        {
+            writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            closeWriter = false;
+        }
+        else
+        {
+            writer = Files.newBufferedWriter(output.toAbsolutePath(), StandardCharsets.UTF_8);
+            closeWriter = true;
+        }
+
+        if (FORMAT_SARIF.equalsIgnoreCase(format))
+        {
+            return new SarifWriter(writer, closeWriter);
+        }
+        return new JsonLinesWriter(writer, closeWriter);
+    }
+
+    /**
+     * Checks if the format is supported.
+     *
+     * @param format the format, can be {@code null}.
+     * @return true, if the format is {@code null} or one of supported formats
+     */
+    public static boolean isSupportedFormat(String format)
+    {
+        return format == null || FORMAT_JSON_LINES.equalsIgnoreCase(format) || FORMAT_SARIF.equalsIgnoreCase(format);
+    }
+
+    private IssueWriter(Writer writer, boolean closeWriter)
+    {
+        this.writer = writer;
+        this.closeWriter = closeWriter;
+    }
+
+    /**
+     * Writes the beginning of the output.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public synchronized void begin() throws IOException
+    {
+        doBegin();
+        writer.flush();
+    }
+
+    /**
+     * Writes the issue and flushes the output.
+     *
+     * @param issue the issue, cannot be {@code null}.
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public synchronized void issue(Issue issue) throws IOException
+    {
+        doIssue(issue);
+        writer.flush();
+    }
+
+    /**
+     * Writes the summary of the validated project.
+     *
+     * @param project the project name, cannot be {@code null}.
+     * @param issues the number of issues of the project
+     * @param wallTime the wall time of validation of the project in milliseconds
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public synchronized void projectFinished(String project, int issues, long wallTime) throws IOException
+    {
+        doProjectFinished(project, issues, wallTime);
+        writer.flush();
+    }
+
+    /**
+     * Writes the end of the output. The end should be written even if validation failed, so the output is complete.
+     *
+     * @param successful true, if all projects are validated successfully
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public synchronized void end(boolean successful) throws IOException
+    {
+        doEnd(successful);
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException
+    {
+        if (closeWriter)
+        {
+            writer.close();
+        }
+        else
+        {
+            writer.flush();
+        }
+    }
+
+    protected abstract void doBegin() throws IOException;
+
+    protected abstract void doIssue(Issue issue) throws IOException;
+
+    protected abstract void doProjectFinished(String project, int issues, long wallTime) throws IOException;
+
+    protected abstract void doEnd(boolean successful) throws IOException;
+
+    protected void write(String value) throws IOException
+    {
+        writer.write(value);
+    }
+
+    protected void writeString(String value) throws IOException
+    {
+        if (value == null)
+        {
+            writer.write("null"); //$NON-NLS-1$
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            switch (c)
+            {
+            case '"':
+                writer.write("\\\""); //$NON-NLS-1$
+                break;
+            case '\\':
+                writer.write("\\\\"); //$NON-NLS-1$
+                break;
+            case '\n':
+                writer.write("\\n"); //$NON-NLS-1$
+                break;
+            case '\r':
+                writer.write("\\r"); //$NON-NLS-1$
+                break;
+            case '\t':
+                writer.write("\\t"); //$NON-NLS-1$
+                break;
+            default:
+                if (c < 0x20)
+                {
+                    writer.write(String.format("\\u%04x", (int)c)); //$NON-NLS-1$
+                }
+                else
+                {
+                    writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * The issue of the validated project.
+     *
+     * @param project the project name, cannot be {@code null}.
+     * @param checkId the full check ID, or short check ID if check is not found in the repository
+     * @param severity the severity name, can be {@code null}.
+     * @param message the message of the issue, can be {@code null}.
+     * @param location the URI of the object with the issue, can be {@code null}.
+     * @param line the line number in the module, or {@code 0} if not applicable
+     */
+    public record Issue(String project, String checkId, String severity, String message, String location, int line)
+    {
+    }
+
+    private static final class JsonLinesWriter
+        extends IssueWriter
+    {
+
+        private JsonLinesWriter(Writer writer, boolean closeWriter)
+        {
+            super(writer, closeWriter);
+        }
+
+        @Override
+        protected void doBegin() throws IOException
+        {
+            // nothing to write, each line is a separate object
+        }
+
+        @Override
+        protected void doIssue(Issue issue) throws IOException
+        {
+            write("{\"type\":\"issue\",\"project\":"); //$NON-NLS-1$
+            writeString(issue.project());
+            write(",\"checkId\":"); //$NON-NLS-1$
+            writeString(issue.checkId());
+            write(",\"severity\":"); //$NON-NLS-1$
+            writeString(issue.severity());
+            write(",\"message\":"); //$NON-NLS-1$
+            writeString(issue.message());
+            write(",\"location\":"); //$NON-NLS-1$
+            writeString(issue.location());
+            write(",\"line\":"); //$NON-NLS-1$
+            write(Integer.toString(issue.line()));
+            write("}\n"); //$NON-NLS-1$
+        }
+
+        @Override
+        protected void doProjectFinished(String project, int issues, long wallTime) throws IOException
+        {
+            write("{\"type\":\"project\",\"project\":"); //$NON-NLS-1$
+            writeString(project);
+            write(",\"issues\":"); //$NON-NLS-1$
+            write(Integer.toString(issues));
+            write(",\"wallTimeMs\":"); //$NON-NLS-1$
+            write(Long.toString(wallTime));
+            write("}\n"); //$NON-NLS-1$
+        }
+
+        @Override
+        protected void doEnd(boolean successful) throws IOException
+        {
+            // nothing to write, each line is a separate object
+        }
+    }
+
+    private static final class SarifWriter
+        extends IssueWriter
+    {
+
+        private final List<ProjectSummary> projects = new ArrayList<>();
+
+        private boolean hasResults;
+
+        private SarifWriter(Writer writer, boolean closeWriter)
+        {
+            super(writer, closeWriter);
+        }
+
+        @Override
+        protected void doBegin() throws IOException
+        {
+            write("{\"version\":\"2.1.0\","); //$NON-NLS-1$
+            write("\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","); //$NON-NLS-1$
+            write("\"runs\":[{\"tool\":{\"driver\":{\"name\":\"v8-code-style\"}},\"results\":[\n"); //$NON-NLS-1$
+        }
+
+        @Override
+        protected void doIssue(Issue issue) throws IOException
+        {
+            if (hasResults)
+            {
+                write(",\n"); //$NON-NLS-1$
+            }
+            hasResults = true;
+
+            write("{\"ruleId\":"); //$NON-NLS-1$
+            writeString(issue.checkId());
+            write(",\"level\":"); //$NON-NLS-1$
+            writeString(getLevel(issue.severity()));
+            write(",\"message\":{\"text\":"); //$NON-NLS-1$
+            writeString(issue.message() == null ? "" : issue.message()); //$NON-NLS-1$
+            write("}"); //$NON-NLS-1$
+            if (issue.location() != null)
+            {
+                write(",\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":"); //$NON-NLS-1$
+                writeString(issue.location());
+                write("}"); //$NON-NLS-1$
+                if (issue.line() > 0)
+                {
+                    write(",\"region\":{\"startLine\":"); //$NON-NLS-1$
+                    write(Integer.toString(issue.line()));
+                    write("}"); //$NON-NLS-1$
+                }
+                write("}}]"); //$NON-NLS-1$
+            }
+            write(",\"properties\":{\"project\":"); //$NON-NLS-1$
+            writeString(issue.project());
+            write(",\"severity\":"); //$NON-NLS-1$
+            writeString(issue.severity());
+            write("}}"); //$NON-NLS-1$
+        }
+
+        @Override
+        protected void doProjectFinished(String project, int issues, long wallTime) throws IOException
+        {
+            // SARIF cannot be interleaved with results, so keep summaries for invocation properties
+            projects.add(new ProjectSummary(project, issues, wallTime));
+        }
+
+        @Override
+        protected void doEnd(boolean successful) throws IOException
+        {
+            write("\n],\"invocations\":[{\"executionSuccessful\":"); //$NON-NLS-1$
+            write(Boolean.toString(successful));
+            write(",\"properties\":{\"projects\":["); //$NON-NLS-1$
+            for (int i = 0; i < projects.size(); i++)
+            {
+                ProjectSummary summary = projects.get(i);
+                if (i > 0)
+                {
+                    write(","); //$NON-NLS-1$
+                }
+                write("{\"name\":"); //$NON-NLS-1$
+                writeString(summary.project());
+                write(",\"issues\":"); //$NON-NLS-1$
+                write(Integer.toString(summary.issues()));
+                write(",\"wallTimeMs\":"); //$NON-NLS-1$
+                write(Long.toString(summary.wallTime()));
+                write("}"); //$NON-NLS-1$
+            }
+            write("]}}]}]}\n"); //$NON-NLS-1$
+        }
+
+        private static String getLevel(String severity)
+        {
+            if (severity == null)
+            {
+                return "warning"; //$NON-NLS-1$
+            }
+            switch (severity)
+            {
+            case "BLOCKER": //$NON-NLS-1$
+            case "CRITICAL": //$NON-NLS-1$
+                return "error"; //$NON-NLS-1$
+            case "MAJOR": //$NON-NLS-1$
+                return "warning"; //$NON-NLS-1$
+            default:
+                return "note"; //$NON-NLS-1$
+            }
+        }
+
+        private record ProjectSummary(String project, int issues, long wallTime)
+        {
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.cli;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * @author agent
+ *
+ */
+final class Messages
+    extends NLS
+{
+    private static final String BUNDLE_NAME = Messages.class.getPackageName() + ".messages"; //$NON-NLS-1$
+    public static String ValidateCommand_Check_groups;
+    public static String ValidateCommand_Description;
+    public static String ValidateCommand_Format;
+    public static String ValidateCommand_Output;
+    public static String ValidateCommand_Project__0__did_not_import_into_workspace;
+    public static String ValidateCommand_Project__0__not_found_in_workspace;
+    public static String ValidateCommand_Projects;
+    public static String ValidateCommand_Projects_location;
+    public static String ValidateCommand_Unsupported_check_group__0;
+    public static String ValidateCommand_Unsupported_format__0;
+    public static String ValidateCommand_Validate_project__0__failed;
+    public static String ValidateCommand_Validate_project__0__finished__1__2;
+    public static String ValidateCommand_Validation_failed;
+    static
+    {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+    private Messages()
+    {
+    }
+}
@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import com._1c.g5.v8.dt.core.operations.ProjectPipelineJob;
+import com._1c.g5.v8.dt.core.platform.IDtProject;
+import com._1c.g5.v8.dt.validation.marker.IMarkerManager;
+import com._1c.g5.v8.dt.validation.marker.Marker;
+import com._1c.g5.v8.dt.validation.marker.StandardExtraInfo;
+import com.e1c.g5.v8.dt.check.CheckUid;
+import com.e1c.g5.v8.dt.check.ICheckScheduler;
+import com.e1c.g5.v8.dt.check.settings.ICheckRepository;
+import com.e1c.g5.v8.dt.cli.api.Argument;
+import com.e1c.g5.v8.dt.cli.api.CliCommand;
+import com.e1c.g5.v8.dt.cli.api.components.BaseCliCommand;
+import com.e1c.v8codestyle.check.CommonCheckRegistry;
+import com.e1c.v8codestyle.check.StandardCheckRegistry;
+import com.e1c.v8codestyle.internal.CorePlugin;
+import com.google.inject.Inject;
+
+/**
+ * The CLI command allows to import or to open projects in workspace and to validate them concurrently.
+ * Issues of each project are streamed to the output in JSON Lines or SARIF format one by one as soon as the project
+ * is validated, and the wall time of validation is reported for each project. A failure of one project does not
+ * discard the output of other projects.
+ *
+ * @author agent
+ */
+public class ValidateCommand
+    extends BaseCliCommand
+{
+
+    private static final String COMMAND = "v8codestyle-validate"; //$NON-NLS-1$
+
+    private static final String OPERATION_NAME = "Validate-v8codestyle"; //$NON-NLS-1$
+
+    private static final String GROUP_STANDARD = "standard"; //$NON-NLS-1$
+
+    private static final String GROUP_COMMON = "common"; //$NON-NLS-1$
+
+    private static final String GROUP_DELIMITER = ","; //$NON-NLS-1$
+
+    private final IMarkerManager markerManager;
+
+    private final ICheckRepository checkRepository;
+
+    private final ICheckScheduler checkScheduler;
+
+    @Inject
+    public ValidateCommand(IMarkerManager markerManager, ICheckRepository checkRepository,
+        ICheckScheduler checkScheduler)
+    {
+        this.markerManager = markerManager;
+        this.checkRepository = checkRepository;
+        this.checkScheduler = checkScheduler;
+    }
+
+    /**
+     * Import projects into workspace and validate projects. Imported projects are fully validated by their first
+     * build, so the command waits until the build and validation are finished and reports markers of the project.
+     *
+     * @param projectPaths the project paths where to find all projects recursively
+     * @param output the path to the output file, or {@code null} to write to the standard output
+     * @param format the output format, {@code jsonl} or {@code sarif}
+     * @param checkGroups the comma separated list of check groups, or {@code null} to report all issues
+     * @return the status of command
+     */
+    @CliCommand(command = COMMAND, value = "ValidateCommand_Description")
+    public IStatus importAndValidateProjects(
+        @Argument(value = "--project-list", elementType = Path.class,
+            descriptor = "ValidateCommand_Projects_location") Path[] projectPaths,
+        @Argument(value = "--output", descriptor = "ValidateCommand_Output") Path output,
+        @Argument(value = "--format", descriptor = "ValidateCommand_Format") String format,
+        @Argument(value = "--check-groups", descriptor = "ValidateCommand_Check_groups") String checkGroups)
+    {
+        if (projectPaths == null || projectPaths.length == 0)
+        {
+            return Status.OK_STATUS;
+        }
+
+        Path[] paths = new Path[projectPaths.length];
+        for (int i = 0; i < projectPaths.length; i++)
+        {
+            paths[i] = projectPaths[i].toAbsolutePath();
+        }
+
+        Collection<File> projectFilePaths = findProjectsRecursively(paths);
+
+        List<IDtProject> projects = new ArrayList<>();
+        for (File projectFile : projectFilePaths)
+        {
+            IDtProject dtProject = startDtProject(projectFile.getParentFile().toPath());
+            if (dtProject != null && dtProject.getWorkspaceProject() != null)
+            {
+                projects.add(dtProject);
+            }
+            else
+            {
+                logError(MessageFormat.format(Messages.ValidateCommand_Project__0__did_not_import_into_workspace,
+                    projectFile));
+            }
+        }
+        if (projects.isEmpty())
+        {
+            // here we tried to import any project but not found - so command should be unsuccessful
+            return Status.CANCEL_STATUS;
+        }
+
+        return validateProjects(projects, output, format, checkGroups, false);
+    }
+
+    /**
+     * Validate projects that are existing in workspace. The projects are revalidated with the checks of the selected
+     * check groups, or with all checks if groups are not set, and then markers of the project are reported.
+     *
+     * @param projectNames the project names
+     * @param output the path to the output file, or {@code null} to write to the standard output
+     * @param format the output format, {@code jsonl} or {@code sarif}
+     * @param checkGroups the comma separated list of check groups, or {@code null} to report all issues
+     * @return the status of command
+     */
+    @CliCommand(command = COMMAND, value = "ValidateCommand_Description")
+    public IStatus validateExistingProjects(
+        @Argument(value = "--project-name-list", elementType = IProject.class,
+            descriptor = "ValidateCommand_Projects") IProject[] projectNames,
+        @Argument(value = "--output", descriptor = "ValidateCommand_Output") Path output,
+        @Argument(value = "--format", descriptor = "ValidateCommand_Format") String format,
+        @Argument(value = "--check-groups", descriptor = "ValidateCommand_Check_groups") String checkGroups)
+    {
+        if (projectNames == null || projectNames.length == 0)
+        {
+            return Status.OK_STATUS;
+        }
+
+        List<IDtProject> projects = new ArrayList<>();
+        for (IProject project : projectNames)
+        {
+            if (!project.isAccessible())
+            {
+                String error = MessageFormat.format(Messages.ValidateCommand_Project__0__not_found_in_workspace,
+                    project.getName());
+                logError(error);
+                return CorePlugin.createErrorStatus(error, null);
+            }
+            waitUntilStarted(project, DT_PROJECT_STARTUP_DURATION);
+            IDtProject dtProject = getContext().getDtProjectManager().getDtProject(project);
+            if (dtProject != null && dtProject.getWorkspaceProject() != null)
+            {
+                projects.add(dtProject);
+            }
+            else
+            {
+                logError(MessageFormat.format(Messages.ValidateCommand_Project__0__not_found_in_workspace,
+                    project.getName()));
+            }
+        }
+
+        return validateProjects(projects, output, format, checkGroups, true);
+    }
+
+    private IStatus validateProjects(List<IDtProject> projects, Path output, String format, String checkGroups,
+        boolean revalidate)
+    {
+        if (projects.isEmpty())
+        {
+            return Status.OK_STATUS;
+        }
+        if (!IssueWriter.isSupportedFormat(format))
+        {
+            String error = MessageFormat.format(Messages.ValidateCommand_Unsupported_format__0, format);
+            logError(error);
+            return CorePlugin.createErrorStatus(error, null);
+        }
+
+        String unsupportedGroup = getUnsupportedCheckGroup(checkGroups);
+        if (unsupportedGroup != null)
+        {
+            String error = MessageFormat.format(Messages.ValidateCommand_Unsupported_check_group__0, unsupportedGroup);
+            logError(error);
+            return CorePlugin.createErrorStatus(error, null);
+        }
+
+        Set<CheckUid> checks = getChecks(checkGroups);
+
+        int threads = Math.max(1, Math.min(projects.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<String> failedProjects = new ArrayList<>();
+        try (IssueWriter writer = IssueWriter.create(format, output))
+        {
+            writer.begin();
+
+            try
+            {
+                List<Future<Void>> results = new ArrayList<>(projects.size());
+                for (IDtProject project : projects)
+                {
+                    results.add(executor.submit(() -> validateProject(project, checks, revalidate, writer)));
+                }
+                for (int i = 0; i < results.size(); i++)
+                {
+                    try
+                    {
+                        results.get(i).get();
+                    }
+                    catch (ExecutionException e)
+                    {
+                        // keep output of other projects, and report the failed project
+                        String projectName = projects.get(i).getName();
+                        logError(MessageFormat.format(Messages.ValidateCommand_Validate_project__0__failed,
+                            projectName));
+                        CorePlugin.logError(e.getCause() == null ? e : e.getCause());
+                        failedProjects.add(projectName);
+                    }
+                }
+            }
+            finally
+            {
+                // complete the output even if validation failed
+                writer.end(failedProjects.isEmpty());
+            }
+        }
+        catch (IOException e)
+        {
+            logError(Messages.ValidateCommand_Validation_failed);
+            CorePlugin.logError(e);
+            return CorePlugin.createErrorStatus(Messages.ValidateCommand_Validation_failed, e);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return Status.CANCEL_STATUS;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        if (!failedProjects.isEmpty())
+        {
+            String error = MessageFormat.format(Messages.ValidateCommand_Validate_project__0__failed,
+                String.join(", ", failedProjects)); //$NON-NLS-1$
+            return CorePlugin.createErrorStatus(error, null);
+        }
+        return Status.OK_STATUS;
+    }
+
+    private Void validateProject(IDtProject project, Set<CheckUid> checks, boolean revalidate, IssueWriter writer)
+        throws IOException
+    {
+        long start = System.nanoTime();
+        IProject workspaceProject = project.getWorkspaceProject();
+
+        // wait until the project is built and validated
+        exclusiveOperation(OPERATION_NAME, project, ProjectPipelineJob.AFTER_BUILD_DD, () -> null);
+        if (revalidate)
+        {
+            // empty set of checks means all checks of the project
+            checkScheduler.scheduleValidation(workspaceProject, checks == null ? Set.of() : checks,
+                new NullProgressMonitor());
+            exclusiveOperation(OPERATION_NAME, project, ProjectPipelineJob.AFTER_BUILD_DD, () -> null);
+        }
+
+        int count = 0;
+        try (Stream<Marker> markers = markerManager.markers(workspaceProject))
+        {
+            Iterator<Marker> iterator = markers.iterator();
+            while (iterator.hasNext())
+            {
+                Marker marker = iterator.next();
+                CheckUid checkUid = checkRepository.getUidForShortUid(marker.getCheckId(), workspaceProject);
+                if (checks != null && (checkUid == null || !checks.contains(checkUid)))
+                {
+                    continue;
+                }
+                writer.issue(createIssue(project.getName(), checkUid, marker));
+                count++;
+            }
+        }
+
+        long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        writer.projectFinished(project.getName(), count, wallTime);
+
+        String info = MessageFormat.format(Messages.ValidateCommand_Validate_project__0__finished__1__2,
+            project.getName(), count, wallTime);
+        getContext().getLogger().info(info);
+        return null;
+    }
+
+    private static IssueWriter.Issue createIssue(String project, CheckUid checkUid, Marker marker)
+    {
+        String checkId = checkUid == null ? marker.getCheckId() : checkUid.toString();
+        String severity = marker.getSeverity() == null ? null : marker.getSeverity().name();
+
+        Object uri = marker.getExtraInfo().get(StandardExtraInfo.TEXT_URI_TO_PROBLEM);
+        Object line = marker.getExtraInfo().get(StandardExtraInfo.TEXT_LINE);
+        int lineNumber = line instanceof Integer number ? number : 0;
+
+        return new IssueWriter.Issue(project, checkId, severity, marker.getMessage(),
+            uri == null ? null : uri.toString(), lineNumber);
+    }
+
+    private static String getUnsupportedCheckGroup(String checkGroups)
+    {
+        if (checkGroups == null || checkGroups.isBlank())
+        {
+            return null;
+        }
+
+        for (String group : checkGroups.split(GROUP_DELIMITER))
+        {
+            String name = group.strip();
+            if (!GROUP_STANDARD.equalsIgnoreCase(name) && !GROUP_COMMON.equalsIgnoreCase(name))
+            {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static Set<CheckUid> getChecks(String checkGroups)
+    {
+        if (checkGroups == null || checkGroups.isBlank())
+        {
+            return null;
+        }
+
+        Set<CheckUid> checks = new HashSet<>();
+        for (String group : checkGroups.split(GROUP_DELIMITER))
+        {
+            String name = group.strip();
+            if (GROUP_STANDARD.equalsIgnoreCase(name))
+            {
+                checks.addAll(StandardCheckRegistry.getInstance().getChecks());
+            }
+            else if (GROUP_COMMON.equalsIgnoreCase(name))
+            {
+                checks.addAll(CommonCheckRegistry.getInstance().getChecks());
+            }
+        }
+        return checks;
+    }
+
+}
@@ -17,6 +17,7 @@ import com._1c.g5.v8.dt.core.platform.IBmModelManager;
 import com._1c.g5.v8.dt.core.platform.IDerivedDataManagerProvider;
 import com._1c.g5.v8.dt.core.platform.IDtProjectManager;
 import com._1c.g5.v8.dt.core.platform.IV8ProjectManager;
+import com._1c.g5.v8.dt.core.platform.IWorkspaceOrchestrator;
 import com._1c.g5.wiring.AbstractServiceAwareModule;
 import com.e1c.v8codestyle.autosort.ISortService;
 import com.e1c.v8codestyle.internal.autosort.AutoSortPlugin;
@@ -45,6 +46,7 @@ public class ExternalDependenciesModule
         bind(IV8ProjectManager.class).toService();
         bind(ISystemIdleService.class).toService();
         bind(IDerivedDataManagerProvider.class).toService();
+        bind(IWorkspaceOrchestrator.class).toService();
     }
 
 }
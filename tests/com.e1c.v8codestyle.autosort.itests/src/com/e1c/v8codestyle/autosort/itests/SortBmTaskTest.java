@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.autosort.itests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.metadata.mdclass.CommonModule;
+import com._1c.g5.v8.dt.metadata.mdclass.MdClassFactory;
+import com.e1c.v8codestyle.internal.autosort.SortBmTask;
+
+/**
+ * Tests for reorder of list elements by {@link SortBmTask}.
+ */
+public class SortBmTaskTest
+{
+
+    private static final Comparator<EObject> SORTER =
+        Comparator.comparing(object -> ((CommonModule)object).getName());
+
+    @Test
+    public void testSortMovesOnlyOutOfPlaceElements() throws Exception
+    {
+        CountingList list = createList("B", "C", "D", "E", "A");
+
+        SortBmTask.sort(list, SORTER);
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), getNames(list));
+        assertEquals(1, list.moves);
+    }
+
+    @Test
+    public void testSortReversed() throws Exception
+    {
+        CountingList list = createList("E", "D", "C", "B", "A");
+
+        SortBmTask.sort(list, SORTER);
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), getNames(list));
+        assertEquals(4, list.moves);
+    }
+
+    @Test
+    public void testSortInterleaved() throws Exception
+    {
+        CountingList list = createList("A", "F", "B", "G", "C", "H", "D");
+
+        SortBmTask.sort(list, SORTER);
+
+        assertEquals(List.of("A", "B", "C", "D", "F", "G", "H"), getNames(list));
+        assertEquals(3, list.moves);
+    }
+
+    @Test
+    public void testSortSorted() throws Exception
+    {
+        CountingList list = createList("A", "B", "C");
+
+        SortBmTask.sort(list, SORTER);
+
+        assertEquals(List.of("A", "B", "C"), getNames(list));
+        assertEquals(0, list.moves);
+    }
+
+    @Test
+    public void testSortRandom() throws Exception
+    {
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++)
+        {
+            String[] names = new String[random.nextInt(50)];
+            for (int j = 0; j < names.length; j++)
+            {
+                names[j] = Integer.toString(random.nextInt(i % 2 == 0 ? 5 : 1000));
+            }
+            CountingList list = createList(names);
+            List<String> expected = new ArrayList<>(getNames(list));
+            Collections.sort(expected);
+
+            SortBmTask.sort(list, SORTER);
+
+            assertEquals(expected, getNames(list));
+        }
+    }
+
+    private static CountingList createList(String... names)
+    {
+        CountingList list = new CountingList();
+        for (String name : names)
+        {
+            CommonModule module = MdClassFactory.eINSTANCE.createCommonModule();
+            module.setName(name);
+            list.add(module);
+        }
+        return list;
+    }
+
+    private static List<String> getNames(List<EObject> list)
+    {
+        return list.stream().map(object -> ((CommonModule)object).getName()).toList();
+    }
+
+    private static final class CountingList
+        extends BasicEList<EObject>
+    {
+
+        private static final long serialVersionUID = 1L;
+
+        private int moves;
+
+        @Override
+        public EObject move(int newPosition, int oldPosition)
+        {
+            moves++;
+            return super.move(newPosition, oldPosition);
+        }
+    }
+
+}
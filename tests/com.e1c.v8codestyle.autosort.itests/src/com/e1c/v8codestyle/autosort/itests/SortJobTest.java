@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.autosort.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com._1c.g5.v8.dt.core.platform.IDtProject;
+import com._1c.g5.v8.dt.core.platform.IDtProjectManager;
+import com._1c.g5.v8.dt.core.platform.IWorkspaceOrchestrator;
+import com._1c.g5.v8.dt.md.sort.MdObjectByNameComparator;
+import com._1c.g5.v8.dt.metadata.mdclass.MdClassPackage;
+import com._1c.g5.v8.dt.testing.GuiceModules;
+import com._1c.g5.v8.dt.testing.JUnitGuiceRunner;
+import com._1c.g5.v8.dt.testing.TestingWorkspace;
+import com.e1c.v8codestyle.autosort.ISortService;
+import com.e1c.v8codestyle.autosort.SortItem;
+import com.e1c.v8codestyle.internal.autosort.SortJob;
+import com.google.inject.Inject;
+
+/**
+ * Tests for {@link SortJob}
+ *
+ * @author agent
+ */
+@RunWith(JUnitGuiceRunner.class)
+@GuiceModules(modules = { ExternalDependenciesModule.class })
+public class SortJobTest
+{
+    private static final String PROJECT_NAME = "Sort";
+
+    @Rule
+    public TestingWorkspace testingWorkspace = new TestingWorkspace(true, true);
+
+    @Inject
+    private ISortService sortService;
+
+    @Inject
+    private IDtProjectManager dtProjectManager;
+
+    @Inject
+    private IWorkspaceOrchestrator workspaceOrchestrator;
+
+    @Test
+    public void testEnqueueCoalescesItems() throws Exception
+    {
+        IProject project = testingWorkspace.setUpProject(PROJECT_NAME, getClass());
+        assertNotNull(project);
+        IDtProject dtProject = dtProjectManager.getDtProject(project);
+        assertNotNull(dtProject);
+
+        MdObjectByNameComparator sorter = new MdObjectByNameComparator(true, true);
+        SortItem commonModules =
+            new SortItem("Configuration", MdClassPackage.Literals.CONFIGURATION__COMMON_MODULES, sorter); //$NON-NLS-1$
+        SortItem catalogs =
+            new SortItem("Configuration", MdClassPackage.Literals.CONFIGURATION__CATALOGS, sorter); //$NON-NLS-1$
+
+        SortJob job = new SortJob(dtProject, sortService, workspaceOrchestrator);
+        job.enqueue(List.of(commonModules, catalogs));
+        job.enqueue(List.of(commonModules));
+        job.enqueue(List.of(catalogs, commonModules));
+        job.join();
+
+        assertEquals(5, job.getEnqueuedCount());
+        assertEquals(3, job.getCoalescedCount());
+    }
+}
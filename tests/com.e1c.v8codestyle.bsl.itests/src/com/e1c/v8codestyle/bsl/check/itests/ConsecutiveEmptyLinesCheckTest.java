@@ -8,6 +8,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
@@ -39,6 +41,19 @@ public class ConsecutiveEmptyLinesCheckTest
         assertEquals(Integer.valueOf(3), markers.get(0).getExtraInfo().get(StandardExtraInfo.TEXT_LINE));
     }
 
+    @Test
+    public void testWithManyRunsOfEmptyLines() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "empty-lines-many-runs.bsl");
+
+        List<Marker> markers = getModuleMarkers();
+        assertEquals(2, markers.size());
+        Set<Object> lines = markers.stream()
+            .map(marker -> marker.getExtraInfo().get(StandardExtraInfo.TEXT_LINE))
+            .collect(Collectors.toSet());
+        assertEquals(Set.of(3, 6), lines);
+    }
+
     @Test
     public void testWithOneEmptyLine() throws Exception
     {
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslDocumentationComment;
+import com._1c.g5.v8.dt.bsl.documentation.comment.BslMultiLineCommentDocumentationProvider;
+import com._1c.g5.v8.dt.bsl.documentation.comment.TypeSection.FieldDefinition;
+import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com.e1c.v8codestyle.bsl.DocCommentCache;
+import com.e1c.v8codestyle.bsl.comment.check.ParametersSectionCheck;
+import com.e1c.v8codestyle.internal.bsl.BslPlugin;
+
+/**
+ * Tests for {@link DocCommentCache}.
+ *
+ * @author agent
+ */
+public class DocCommentCacheTest
+    extends AbstractSingleModuleTestBase
+{
+
+    /**
+     * Instantiates a new test of the documentation comment cache.
+     */
+    public DocCommentCacheTest()
+    {
+        super(ParametersSectionCheck.class);
+    }
+
+    /**
+     * Test that the parsed comment is shared for the same format and is parsed separately for other format.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testCommentIsShared() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "doc-comment-cache.bsl");
+        BslMultiLineCommentDocumentationProvider commentProvider = getCommentProvider();
+        Method method = module.allMethods().get(0);
+
+        BslDocumentationComment comment = DocCommentCache.parseTemplateComment(method, false, commentProvider);
+        assertNotNull(comment);
+        assertSame(comment, DocCommentCache.parseTemplateComment(method, false, commentProvider));
+
+        BslDocumentationComment oldFormatComment = DocCommentCache.parseTemplateComment(method, true, commentProvider);
+        assertNotSame(comment, oldFormatComment);
+        assertSame(oldFormatComment, DocCommentCache.parseTemplateComment(method, true, commentProvider));
+    }
+
+    /**
+     * Test that the cached comment is dropped when the text of the comment is edited.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testCommentIsDroppedOnEdit() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "doc-comment-cache.bsl");
+        BslMultiLineCommentDocumentationProvider commentProvider = getCommentProvider();
+
+        BslDocumentationComment comment =
+            DocCommentCache.parseTemplateComment(module.allMethods().get(0), false, commentProvider);
+        assertEquals(List.of("First"), getParameterNames(comment));
+
+        module = updateAndGetModule(FOLDER_RESOURCE + "doc-comment-cache-edited.bsl");
+        BslDocumentationComment editedComment =
+            DocCommentCache.parseTemplateComment(module.allMethods().get(0), false, commentProvider);
+        assertNotSame(comment, editedComment);
+        assertEquals(List.of("First", "Second"), getParameterNames(editedComment));
+    }
+
+    private static BslMultiLineCommentDocumentationProvider getCommentProvider()
+    {
+        return BslPlugin.getDefault().getInjector().getInstance(BslMultiLineCommentDocumentationProvider.class);
+    }
+
+    private static List<String> getParameterNames(BslDocumentationComment comment)
+    {
+        assertNotNull(comment);
+        assertNotNull(comment.getParametersSection());
+        return comment.getParametersSection()
+            .getParameterDefinitions()
+            .stream()
+            .map(FieldDefinition::getName)
+            .collect(Collectors.toList());
+    }
+
+}
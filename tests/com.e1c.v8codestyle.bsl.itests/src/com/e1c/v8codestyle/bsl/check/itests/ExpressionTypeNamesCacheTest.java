@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.model.DynamicFeatureAccess;
+import com._1c.g5.v8.dt.bsl.model.Expression;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com._1c.g5.v8.dt.bsl.resource.TypesComputer;
+import com._1c.g5.v8.dt.platform.IEObjectTypeNames;
+import com.e1c.v8codestyle.bsl.ExpressionTypeNamesCache;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
+import com.e1c.v8codestyle.bsl.check.CodeAfterAsyncCallCheck;
+import com.e1c.v8codestyle.internal.bsl.BslPlugin;
+
+/**
+ * Tests for {@link ExpressionTypeNamesCache}.
+ *
+ * @author agent
+ */
+public class ExpressionTypeNamesCacheTest
+    extends AbstractSingleModuleTestBase
+{
+
+    /**
+     * Instantiates a new test of the expression type names cache.
+     */
+    public ExpressionTypeNamesCacheTest()
+    {
+        super(CodeAfterAsyncCallCheck.class);
+    }
+
+    /**
+     * Test that the cache and computed type names are shared for the module.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testCacheIsShared() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "expression-type-names-cache.bsl");
+        TypesComputer typesComputer = getTypesComputer();
+
+        ExpressionTypeNamesCache cache = ExpressionTypeNamesCache.get(module, typesComputer);
+        Expression source = getQuerySource(module);
+        assertSame(cache, ExpressionTypeNamesCache.get(source, typesComputer));
+
+        List<String> typeNames = cache.getTypeNames(source);
+        assertTrue(typeNames.contains(IEObjectTypeNames.QUERY));
+        assertSame(typeNames, ExpressionTypeNamesCache.get(module, typesComputer).getTypeNames(source));
+    }
+
+    /**
+     * Test that the cache is dropped when the module is changed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testCacheIsDroppedOnChange() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "expression-type-names-cache.bsl");
+        TypesComputer typesComputer = getTypesComputer();
+        ExpressionTypeNamesCache cache = ExpressionTypeNamesCache.get(module, typesComputer);
+        cache.getTypeNames(getQuerySource(module));
+
+        module = updateAndGetModule(FOLDER_RESOURCE + "expression-type-names-cache-changed.bsl");
+        ExpressionTypeNamesCache changedCache = ExpressionTypeNamesCache.get(module, typesComputer);
+        assertNotSame(cache, changedCache);
+        assertTrue(changedCache.getTypeNames(getQuerySource(module)).contains(IEObjectTypeNames.QUERY));
+    }
+
+    private static TypesComputer getTypesComputer()
+    {
+        return BslPlugin.getDefault().getInjector().getInstance(TypesComputer.class);
+    }
+
+    private static Expression getQuerySource(Module module)
+    {
+        List<DynamicFeatureAccess> accesses = ModuleFacts.getFacts(module).getAll(DynamicFeatureAccess.class);
+        assertFalse(accesses.isEmpty());
+        return accesses.get(accesses.size() - 1).getSource();
+    }
+
+}
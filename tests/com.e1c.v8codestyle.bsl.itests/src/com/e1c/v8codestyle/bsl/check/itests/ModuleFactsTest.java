@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.model.Invocation;
+import com._1c.g5.v8.dt.bsl.model.LoopStatement;
+import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com.e1c.v8codestyle.bsl.ModuleFacts;
+import com.e1c.v8codestyle.bsl.check.QueryInLoopCheck;
+
+/**
+ * Tests for {@link ModuleFacts}.
+ *
+ * @author agent
+ */
+public class ModuleFactsTest
+    extends AbstractSingleModuleTestBase
+{
+
+    /**
+     * Instantiates a new test of the module facts.
+     */
+    public ModuleFactsTest()
+    {
+        super(QueryInLoopCheck.class);
+    }
+
+    /**
+     * Test that the facts are shared while the module is not changed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFactsAreShared() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-facts.bsl");
+
+        ModuleFacts facts = ModuleFacts.getFacts(module);
+        assertSame(facts, ModuleFacts.getFacts(module));
+        assertEquals(1, facts.getAll(LoopStatement.class).size());
+        assertEquals(1, facts.getAll(getMethod(module), Invocation.class).size());
+    }
+
+    /**
+     * Test that the facts are collected again when the statement inside of the method is changed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFactsRebuiltOnMethodBodyChange() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-facts.bsl");
+        ModuleFacts facts = ModuleFacts.getFacts(module);
+        assertEquals(1, facts.getAll(getMethod(module), Invocation.class).size());
+
+        module = updateAndGetModule(FOLDER_RESOURCE + "module-facts-changed.bsl");
+        ModuleFacts changedFacts = ModuleFacts.getFacts(module);
+        assertNotSame(facts, changedFacts);
+        Method method = getMethod(module);
+        assertEquals(3, changedFacts.getAll(method, Invocation.class).size());
+        for (Invocation invocation : changedFacts.getAll(method, Invocation.class))
+        {
+            assertSame(module, invocation.eResource().getContents().get(0));
+        }
+    }
+
+    private static Method getMethod(Module module)
+    {
+        assertFalse(module.allMethods().isEmpty());
+        return module.allMethods().get(0);
+    }
+
+}
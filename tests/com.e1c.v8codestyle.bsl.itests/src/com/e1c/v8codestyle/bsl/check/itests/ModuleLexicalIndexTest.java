@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com._1c.g5.v8.dt.bsl.model.Statement;
+import com._1c.g5.v8.dt.bsl.model.util.BslUtil;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex;
+import com.e1c.v8codestyle.bsl.ModuleLexicalIndex.LineBreaks;
+import com.e1c.v8codestyle.bsl.check.SemicolonMissingCheck;
+
+/**
+ * Tests for {@link ModuleLexicalIndex}.
+ *
+ * @author agent
+ */
+public class ModuleLexicalIndexTest
+    extends AbstractSingleModuleTestBase
+{
+
+    /**
+     * Instantiates a new test of the module lexical index.
+     */
+    public ModuleLexicalIndexTest()
+    {
+        super(SemicolonMissingCheck.class);
+    }
+
+    /**
+     * Test that semicolons are found only inside the text of the node.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testContainsSemicolon() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-lexical-index.bsl");
+        ModuleLexicalIndex index = ModuleLexicalIndex.get(module);
+        assertNotNull(index);
+
+        List<Statement> statements = BslUtil.allStatements(getMethod(module));
+        // the semicolon inside of the string literal
+        assertTrue(index.containsSemicolon(getNode(statements.get(0))));
+        assertFalse(index.containsSemicolon(getNode(statements.get(1))));
+    }
+
+    /**
+     * Test that the text is found ignoring case only inside the text of the node.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testContainsIgnoreCase() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-lexical-index.bsl");
+        ModuleLexicalIndex index = ModuleLexicalIndex.get(module);
+        assertNotNull(index);
+
+        Method method = getMethod(module);
+        List<Statement> statements = BslUtil.allStatements(method);
+        assertTrue(index.containsIgnoreCase(getNode(method), "value = 1"));
+        assertTrue(index.containsIgnoreCase(getNode(statements.get(1)), "value = 1"));
+        assertFalse(index.containsIgnoreCase(getNode(statements.get(0)), "value = 1"));
+    }
+
+    /**
+     * Test that line starts of whitespaces are inside of whitespaces and the index is shared for the module.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testLineBreaks() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-lexical-index.bsl");
+        ModuleLexicalIndex index = ModuleLexicalIndex.get(module);
+        assertNotNull(index);
+        assertSame(index, ModuleLexicalIndex.get(getMethod(module)));
+
+        assertFalse(index.getLineBreaks().isEmpty());
+        for (LineBreaks lineBreaks : index.getLineBreaks())
+        {
+            assertTrue(lineBreaks.lineStarts().length > 0);
+            for (int lineStart : lineBreaks.lineStarts())
+            {
+                assertTrue(lineStart > lineBreaks.offset() && lineStart <= lineBreaks.endOffset());
+            }
+        }
+    }
+
+    private static Method getMethod(Module module)
+    {
+        assertFalse(module.allMethods().isEmpty());
+        return module.allMethods().get(0);
+    }
+
+    private static INode getNode(EObject object)
+    {
+        INode node = NodeModelUtils.findActualNodeFor(object);
+        assertNotNull(node);
+        return node;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.model.Method;
+import com._1c.g5.v8.dt.bsl.model.Module;
+import com._1c.g5.v8.dt.bsl.model.RegionPreprocessor;
+import com.e1c.v8codestyle.bsl.ModuleRegionIndex;
+import com.e1c.v8codestyle.bsl.check.ModuleStructureMethodInRegionCheck;
+
+/**
+ * Tests for {@link ModuleRegionIndex}.
+ *
+ * @author agent
+ */
+public class ModuleRegionIndexTest
+    extends AbstractSingleModuleTestBase
+{
+
+    /**
+     * Instantiates a new test of the module region index.
+     */
+    public ModuleRegionIndexTest()
+    {
+        super(ModuleStructureMethodInRegionCheck.class);
+    }
+
+    /**
+     * Test that parent regions of methods are found from the innermost to the top region.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testParentRegions() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-region-index.bsl");
+
+        ModuleRegionIndex index = ModuleRegionIndex.get(module);
+        assertNotNull(index);
+
+        assertEquals(List.of("Public"), getParentRegionNames(index, module, "MethodInPublic"));
+        assertEquals(List.of("Nested", "Public"), getParentRegionNames(index, module, "MethodInNested"));
+        assertEquals(List.of("Public"), getParentRegionNames(index, module, "MethodAfterNested"));
+        assertEquals(List.of("Private"), getParentRegionNames(index, module, "MethodInPrivate"));
+        assertEquals(List.of(), getParentRegionNames(index, module, "MethodOutOfRegion"));
+    }
+
+    /**
+     * Test that the index is built once per parse result of the module.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testIndexIsShared() throws Exception
+    {
+        Module module = updateAndGetModule(FOLDER_RESOURCE + "module-region-index.bsl");
+
+        ModuleRegionIndex index = ModuleRegionIndex.get(module);
+        assertNotNull(index);
+        assertSame(index, ModuleRegionIndex.get(module.allMethods().get(0)));
+    }
+
+    private static List<String> getParentRegionNames(ModuleRegionIndex index, Module module, String methodName)
+    {
+        Method method = module.allMethods()
+            .stream()
+            .filter(m -> methodName.equals(m.getName()))
+            .findFirst()
+            .orElseThrow();
+        List<RegionPreprocessor> regions = index.getParentRegions(method);
+        assertNotNull(regions);
+        return regions.stream().map(RegionPreprocessor::getName).collect(Collectors.toList());
+    }
+
+}
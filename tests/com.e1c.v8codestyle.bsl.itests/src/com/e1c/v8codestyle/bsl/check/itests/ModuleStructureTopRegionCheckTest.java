@@ -164,6 +164,38 @@ public class ModuleStructureTopRegionCheckTest
         assertEquals(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, markers.get(1).getMessage());
     }
 
+    /**
+     * Test that standard regions are ordered ignoring case of names and skipped standard regions.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testTopRegionOrderIgnoreCase() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "module-structure-region-order-ignore-case.bsl");
+
+        List<Marker> markers = getModuleMarkers();
+        assertTrue(markers.isEmpty());
+    }
+
+    /**
+     * Test that all standard regions after the region in the wrong order are reported.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testTopRegionOrderAfterWrongRegion() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "module-structure-region-order-after-wrong.bsl");
+
+        List<Marker> markers = getModuleMarkers();
+        assertEquals(2, markers.size());
+        assertEquals(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, markers.get(0).getMessage());
+        assertEquals(Integer.valueOf(8), markers.get(0).getExtraInfo().get(StandardExtraInfo.TEXT_LINE));
+        assertEquals(Messages.ModuleStructureTopRegionCheck_Region_has_the_wrong_order, markers.get(1).getMessage());
+        assertEquals(Integer.valueOf(15), markers.get(1).getExtraInfo().get(StandardExtraInfo.TEXT_LINE));
+    }
+
     /**
      * Test that top module structure regions in form module is compliant.
      *
@@ -149,6 +149,24 @@ public class QueryInLoopCheckTest
         assertEquals(0, uriErrors.size());
     }
 
+    /**
+     * Test the path of method with query is the shortest call chain to the query, and it goes via the call site
+     * that discovered the method first
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testQueryInLoopMethodPath() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "query-in-loop-path.bsl");
+
+        List<Marker> markers = getModuleMarkers();
+        assertEquals(1, markers.size());
+        assertEquals(
+            "Loop has method with query \"MethodA() -> {12} MethodC() -> {22} Query.Execute()\"",
+            markers.get(0).getMessage());
+    }
+
     private CheckUid cuid(String checkId)
     {
         return new CheckUid(checkId, BslPlugin.PLUGIN_ID);
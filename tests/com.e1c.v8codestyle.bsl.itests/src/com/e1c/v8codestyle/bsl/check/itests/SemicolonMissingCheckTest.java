@@ -133,6 +133,22 @@ public class SemicolonMissingCheckTest
         assertEquals(Integer.valueOf(7), marker.getExtraInfo().get(StandardExtraInfo.TEXT_LINE));
     }
 
+    /**
+     * Test statement in if preprocessor with russian keywords, which are compared ignoring case.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testStatementInIfPrepocessorRu() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "missing-semicolon-statement-if-preprocessor-ru.bsl");
+
+        List<Marker> markers = getModuleMarkers();
+        assertEquals(1, markers.size());
+        Marker marker = markers.get(0);
+        assertEquals(Integer.valueOf(7), marker.getExtraInfo().get(StandardExtraInfo.TEXT_LINE));
+    }
+
     /**
      * Test statement sub statement.
      *
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.check.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Test;
+
+import com.e1c.v8codestyle.bsl.strict.StrictTypeUtil;
+import com.e1c.v8codestyle.bsl.strict.check.VariableTypeCheck;
+
+/**
+ * Tests for {@link StrictTypeUtil#setStrictTypeAnnotation(Collection, java.util.function.Predicate,
+ * org.eclipse.core.runtime.IProgressMonitor)} that updates several BSL files at once.
+ *
+ * @author agent
+ */
+public class StrictTypeUtilTest
+    extends AbstractSingleModuleTestBase
+{
+
+    private static final String MISSING_FILE_NAME = "/src/CommonModules/CommonModule/Missing.bsl";
+
+    /**
+     * Instantiates a new test of the strict types utility.
+     */
+    public StrictTypeUtilTest()
+    {
+        super(VariableTypeCheck.class);
+    }
+
+    /**
+     * Test that the annotation is added only to files without annotation that can be edited.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSetStrictTypeAnnotationToFiles() throws Exception
+    {
+        updateModule(FOLDER_RESOURCE + "strict-type-util.bsl");
+
+        IFile file = getProject().getWorkspaceProject().getFile(getModuleFileName());
+        IFile missingFile = getProject().getWorkspaceProject().getFile(MISSING_FILE_NAME);
+        List<IFile> files = List.of(file, missingFile);
+        assertFalse(StrictTypeUtil.hasStrictTypeAnnotation(file));
+
+        Collection<IFile> updated =
+            StrictTypeUtil.setStrictTypeAnnotation(files, f -> false, new NullProgressMonitor());
+        assertTrue(updated.isEmpty());
+        assertFalse(StrictTypeUtil.hasStrictTypeAnnotation(file));
+
+        updated = StrictTypeUtil.setStrictTypeAnnotation(files, f -> true, new NullProgressMonitor());
+        assertEquals(List.of(file), List.copyOf(updated));
+        assertTrue(StrictTypeUtil.hasStrictTypeAnnotation(file));
+        assertFalse(missingFile.exists());
+
+        updated = StrictTypeUtil.setStrictTypeAnnotation(files, f -> true, new NullProgressMonitor());
+        assertTrue(updated.isEmpty());
+    }
+
+}
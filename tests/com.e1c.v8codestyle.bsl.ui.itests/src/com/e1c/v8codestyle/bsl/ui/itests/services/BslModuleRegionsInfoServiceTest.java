@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.bsl.ui.itests.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.text.TextSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.forms.editor.FormEditor;
+import org.eclipse.xtext.ui.editor.model.IXtextDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com._1c.g5.v8.dt.bsl.common.IBslModuleEventData;
+import com._1c.g5.v8.dt.bsl.common.IBslModuleTextInsertInfo;
+import com._1c.g5.v8.dt.bsl.ui.editor.BslXtextEditor;
+import com._1c.g5.v8.dt.testing.TestingWorkspace;
+import com._1c.g5.v8.dt.ui.util.OpenHelper;
+import com.e1c.v8codestyle.internal.bsl.ui.UiPlugin;
+import com.e1c.v8codestyle.internal.bsl.ui.services.BslModuleRegionsInfoService;
+
+/**
+ * Test of batch insertion of event handlers of {@link BslModuleRegionsInfoService}.
+ *
+ * @author agent
+ */
+public class BslModuleRegionsInfoServiceTest
+{
+
+    private static final String PROJECT_NAME = "CommonModule";
+
+    private static final String COMMON_MODULE_FILE_NAME = "/src/CommonModules/CommonModule/Module.bsl";
+
+    private static final String FOLDER_RESOURCE = "/resources/";
+
+    @Rule
+    public TestingWorkspace testingWorkspace = new TestingWorkspace(true, false);
+
+    private IProject project;
+
+    private OpenHelper openHelper = new OpenHelper();
+
+    @Before
+    public void setUp() throws CoreException
+    {
+        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().closeAllEditors(false);
+
+        project = testingWorkspace.getProject(PROJECT_NAME);
+        if (!project.exists() || !project.isAccessible())
+        {
+            testingWorkspace.cleanUpWorkspace();
+            project = this.testingWorkspace.setUpProject(PROJECT_NAME, getClass());
+        }
+    }
+
+    @After
+    public void shutDown()
+    {
+        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().closeAllEditors(false);
+        Display display = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell().getDisplay();
+        while (!display.isDisposed() && display.readAndDispatch())
+        {
+            // do it
+        }
+    }
+
+    /**
+     * Test that several handlers going to the same insert point are inserted at once in order of handlers.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testInsertSeveralEventHandlers() throws Exception
+    {
+        IXtextDocument document = openModule(FOLDER_RESOURCE + "event-handlers-insert.bsl");
+        String original = document.get();
+        int defaultPosition = document.getLength();
+
+        BslModuleRegionsInfoService service =
+            UiPlugin.getDefault().getInjector().getInstance(BslModuleRegionsInfoService.class);
+
+        Map<IBslModuleEventData, String> handlers = new LinkedHashMap<>();
+        handlers.put(createEventData(), "\nProcedure Handler1()\nEndProcedure\n");
+        handlers.put(createEventData(), "\nProcedure Handler2()\nEndProcedure\n");
+        handlers.put(createEventData(), "\nProcedure Handler3()\nEndProcedure\n");
+
+        List<IBslModuleTextInsertInfo> infos =
+            service.getEventHandlerTextInsertInfos(document, defaultPosition, List.copyOf(handlers.keySet()));
+        assertEquals(3, infos.size());
+        for (IBslModuleTextInsertInfo info : infos)
+        {
+            assertEquals(defaultPosition, info.getPosition());
+        }
+
+        service.insertEventHandlers(document, defaultPosition, handlers);
+
+        String expected = original + String.join("", handlers.values());
+        assertEquals(expected, document.get());
+    }
+
+    /**
+     * Test that empty handlers do not change the module.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testInsertNoEventHandlers() throws Exception
+    {
+        IXtextDocument document = openModule(FOLDER_RESOURCE + "event-handlers-insert.bsl");
+        String original = document.get();
+
+        BslModuleRegionsInfoService service =
+            UiPlugin.getDefault().getInjector().getInstance(BslModuleRegionsInfoService.class);
+        service.insertEventHandlers(document, document.getLength(), Map.of());
+
+        assertEquals(original, document.get());
+    }
+
+    private IXtextDocument openModule(String pathToResource) throws Exception
+    {
+        IFile file = project.getFile(COMMON_MODULE_FILE_NAME);
+        try (InputStream in = getClass().getResourceAsStream(pathToResource))
+        {
+            file.setContents(in, true, true, new NullProgressMonitor());
+        }
+        testingWorkspace.waitForBuildCompletion();
+
+        IEditorPart fEditor = openHelper.openEditor(file, new TextSelection(0, 0));
+        assertTrue(fEditor instanceof FormEditor);
+        IEditorPart editor = ((FormEditor)fEditor).getActiveEditor();
+        assertTrue(editor instanceof BslXtextEditor);
+        return ((BslXtextEditor)editor).getDocument();
+    }
+
+    /**
+     * Creates event data that is not bound to the metadata object, so the handler goes to the default position.
+     *
+     * @return the event data, cannot return {@code null}.
+     */
+    private static IBslModuleEventData createEventData()
+    {
+        return (IBslModuleEventData)Proxy.newProxyInstance(IBslModuleEventData.class.getClassLoader(),
+            new Class<?>[] { IBslModuleEventData.class }, (proxy, method, args) -> {
+                switch (method.getName())
+                {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "EventData@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    return null;
+                }
+            });
+    }
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.cli.itests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.e1c.v8codestyle.internal.cli.IssueWriter;
+
+/**
+ * Tests for {@link IssueWriter} output in JSON Lines and SARIF formats.
+ *
+ * @author agent
+ */
+public class IssueWriterTest
+{
+
+    private static final String PROJECT = "MyProject";
+
+    private static final String LOCATION = "/MyProject/src/CommonModules/CommonModule/Module.bsl";
+
+    private Path output;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        output = Files.createTempFile("issues", ".out"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(output);
+    }
+
+    /**
+     * Test that each issue and project summary is a separate JSON object in a line, and strings are escaped.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testJsonLines() throws Exception
+    {
+        try (IssueWriter writer = IssueWriter.create(null, output))
+        {
+            writer.begin();
+            writer.issue(new IssueWriter.Issue(PROJECT, "check-id", "MAJOR", "Say \"hi\"\n\tnow", LOCATION, 3));
+            writer.issue(new IssueWriter.Issue(PROJECT, "other-check", null, null, null, 0));
+            writer.projectFinished(PROJECT, 2, 15);
+            writer.end(true);
+        }
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(List.of(
+            "{\"type\":\"issue\",\"project\":\"MyProject\",\"checkId\":\"check-id\",\"severity\":\"MAJOR\","
+                + "\"message\":\"Say \\\"hi\\\"\\n\\tnow\",\"location\":\"" + LOCATION + "\",\"line\":3}",
+            "{\"type\":\"issue\",\"project\":\"MyProject\",\"checkId\":\"other-check\",\"severity\":null,"
+                + "\"message\":null,\"location\":null,\"line\":0}",
+            "{\"type\":\"project\",\"project\":\"MyProject\",\"issues\":2,\"wallTimeMs\":15}"), lines);
+    }
+
+    /**
+     * Test that issues are written to results of the single SARIF run, and the run is completed with project
+     * summaries even if validation failed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSarif() throws Exception
+    {
+        try (IssueWriter writer = IssueWriter.create(IssueWriter.FORMAT_SARIF, output))
+        {
+            writer.begin();
+            writer.issue(new IssueWriter.Issue(PROJECT, "check-id", "MAJOR", "Message", LOCATION, 3));
+            writer.issue(new IssueWriter.Issue(PROJECT, "other-check", "CRITICAL", null, null, 0));
+            writer.projectFinished(PROJECT, 2, 15);
+            writer.end(false);
+        }
+
+        String expected = "{\"version\":\"2.1.0\",\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+            + "\"runs\":[{\"tool\":{\"driver\":{\"name\":\"v8-code-style\"}},\"results\":[\n"
+            + "{\"ruleId\":\"check-id\",\"level\":\"warning\",\"message\":{\"text\":\"Message\"},"
+            + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"" + LOCATION + "\"},"
+            + "\"region\":{\"startLine\":3}}}],\"properties\":{\"project\":\"MyProject\",\"severity\":\"MAJOR\"}},\n"
+            + "{\"ruleId\":\"other-check\",\"level\":\"error\",\"message\":{\"text\":\"\"},"
+            + "\"properties\":{\"project\":\"MyProject\",\"severity\":\"CRITICAL\"}}\n"
+            + "],\"invocations\":[{\"executionSuccessful\":false,"
+            + "\"properties\":{\"projects\":[{\"name\":\"MyProject\",\"issues\":2,\"wallTimeMs\":15}]}}]}]}\n";
+        assertEquals(expected, Files.readString(output, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test supported formats of the writer.
+     */
+    @Test
+    public void testSupportedFormats()
+    {
+        assertTrue(IssueWriter.isSupportedFormat(null));
+        assertTrue(IssueWriter.isSupportedFormat("JSONL")); //$NON-NLS-1$
+        assertTrue(IssueWriter.isSupportedFormat(IssueWriter.FORMAT_SARIF));
+        assertFalse(IssueWriter.isSupportedFormat("xml")); //$NON-NLS-1$
+    }
+
+}
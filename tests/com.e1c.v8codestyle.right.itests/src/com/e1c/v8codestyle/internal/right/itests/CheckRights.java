@@ -190,7 +190,7 @@ public abstract class CheckRights
         waitForDD(dtProject);
     }
 
-    private Right addRight(RightName rightName, IProject project)
+    protected Right addRight(RightName rightName, IProject project)
     {
         IRuntimeVersionSupport runtimeVersionSupport = ServiceAccess.get(IRuntimeVersionSupport.class);
         Version version = runtimeVersionSupport.getRuntimeVersion(project);
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2026, 1C-Soft LLC and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     1C-Soft LLC - initial API and implementation
+ *******************************************************************************/
+package com.e1c.v8codestyle.internal.right.itests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Test;
+
+import com._1c.g5.v8.bm.core.IBmObject;
+import com._1c.g5.v8.bm.core.IBmTransaction;
+import com._1c.g5.v8.bm.integration.AbstractBmTask;
+import com._1c.g5.v8.bm.integration.IBmModel;
+import com._1c.g5.v8.dt.core.platform.IDtProject;
+import com._1c.g5.v8.dt.metadata.mdclass.Role;
+import com._1c.g5.v8.dt.rights.model.ObjectRight;
+import com._1c.g5.v8.dt.rights.model.ObjectRights;
+import com._1c.g5.v8.dt.rights.model.Right;
+import com._1c.g5.v8.dt.rights.model.RightValue;
+import com._1c.g5.v8.dt.rights.model.RoleDescription;
+import com._1c.g5.v8.dt.rights.model.util.RightName;
+import com._1c.g5.v8.dt.rights.model.util.RightsModelUtil;
+import com.e1c.v8codestyle.internal.right.CorePlugin;
+import com.e1c.v8codestyle.internal.right.IRoleRightsIndex;
+
+/**
+ * Tests for {@link IRoleRightsIndex}.
+ *
+ * @author agent
+ */
+public class RoleRightsIndexTest
+    extends CheckRights
+{
+
+    private static final String PROJECT_NAME = "StandardRoles";
+
+    private static final String ROLE_FQN = "Role.StandardRole.Rights";
+
+    private static final String CONFIGURATION_FQN = "Configuration";
+
+    /**
+     * Test that evaluated rights of the role are dropped when the right of the role is changed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testRoleRightsDroppedOnRightChange() throws Exception
+    {
+        IDtProject dtProject = openProjectAndWaitForValidationFinish(PROJECT_NAME);
+        assertNotNull(dtProject);
+        IRoleRightsIndex index = CorePlugin.getDefault().getInjector().getInstance(IRoleRightsIndex.class);
+
+        setRight(dtProject, false);
+        long configurationId = getTopObjectByFqn(CONFIGURATION_FQN, dtProject).bmGetId();
+        assertFalse(getRoleObjectsWithRight(index, dtProject).contains(configurationId));
+
+        setRight(dtProject, true);
+        assertTrue(getRoleObjectsWithRight(index, dtProject).contains(configurationId));
+
+        setRight(dtProject, false);
+        assertFalse(getRoleObjectsWithRight(index, dtProject).contains(configurationId));
+    }
+
+    private Set<Long> getRoleObjectsWithRight(IRoleRightsIndex index, IDtProject dtProject)
+    {
+        IBmObject description = getTopObjectByFqn(ROLE_FQN, dtProject);
+        assertTrue(description instanceof RoleDescription);
+        return index.getRoleObjectsWithRight((RoleDescription)description, RightName.ACTIVE_USERS.getName(),
+            new NullProgressMonitor());
+    }
+
+    private void setRight(IDtProject dtProject, boolean set)
+    {
+        IBmModel model = bmModelManager.getModel(dtProject);
+        model.execute(new AbstractBmTask<Void>("change right")
+        {
+            @Override
+            public Void execute(IBmTransaction transaction, IProgressMonitor monitor)
+            {
+                RoleDescription description = (RoleDescription)transaction.getTopObjectByFqn(ROLE_FQN);
+                Role role = RightsModelUtil.getOwner(description, model);
+                EObject mdObject = transaction.getTopObjectByFqn(CONFIGURATION_FQN);
+                RightValue defaultRightValue = RightsModelUtil.getDefaultRightValue(mdObject, role);
+
+                ObjectRights objectRights = RightsModelUtil.getOrCreateObjectRights(mdObject, description);
+                for (ObjectRight objectRight : ECollections.newBasicEList(objectRights.getRights()))
+                {
+                    RightsModelUtil.changeObjectRight(defaultRightValue, defaultRightValue, objectRights,
+                        objectRight.getRight());
+                }
+                if (set)
+                {
+                    Right right = addRight(RightName.ACTIVE_USERS, dtProject.getWorkspaceProject());
+                    assertNotNull(right);
+                    RightsModelUtil.changeObjectRight(RightsModelUtil.getRightValue(true), defaultRightValue,
+                        objectRights, right);
+                }
+                RightsModelUtil.removeEmptyObjectRights(description, objectRights);
+                return null;
+            }
+        });
+        waitForDD(dtProject);
+    }
+
+}